@@ -0,0 +1,117 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. Unlike {@link LinkedStack}, it does not
+ * allocate a node per element: once the array is big enough, push and pop do not allocate at all.
+ * <p>
+ * The array doubles when it is full. A shrinking stack also halves the array when it becomes a quarter full (but not
+ * below the initial capacity), so a stack that was big once does not hold the memory forever. The gap between the
+ * two thresholds prevents resizing back and forth when the size moves around one boundary.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final int initCapacity;
+    private final boolean shrinking;
+    private Object[] elements;
+    private int size;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the stack
+     * @param shrinking    true if the array should shrink when the stack becomes a quarter full
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public ArrayStack(int initCapacity, boolean shrinking) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        this.initCapacity = initCapacity;
+        this.shrinking = shrinking;
+        elements = new Object[initCapacity];
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> stack = new ArrayStack<>(Math.max(1, elements.length), false);
+        for (T element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length << 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    @Override
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = elementAt(--size);
+        elements[size] = null;
+        if (shrinking && size <= elements.length >> 2 && elements.length >> 1 >= initCapacity) {
+            elements = Arrays.copyOf(elements, elements.length >> 1);
+        }
+        return element;
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    @Override
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elementAt(size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a length of the backing array
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+}
@@ -0,0 +1,163 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link ConcurrentLinkedStack} is a thread-safe, lock-free stack implementation based on singly linked generic nodes
+ * (Treiber stack). The top of the stack is an {@link AtomicReference}, and push and pop replace it using
+ * compare-and-set in a loop.
+ * <p>
+ * Under high contention, most compare-and-set calls on the top fail. So after a failed attempt a thread tries an
+ * elimination array: a pushing thread leaves its node in a random slot and waits a little, and a popping thread that
+ * finds a node in a slot takes it. Such a pair of operations cancels out and never touches the top of the stack, so
+ * threads that would collide on the top can complete in parallel instead.
+ * <p>
+ * Every node stores the size of the stack it tops, so {@link ConcurrentLinkedStack#size()} is a constant-time read of
+ * the top node. Null elements are not supported.
+ *
+ * @param <T> generic type parameter
+ */
+public class ConcurrentLinkedStack<T> implements Stack<T> {
+    static final int ELIMINATION_WAIT_SPINS = 128;
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationArray;
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+        int size;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public ConcurrentLinkedStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * @param eliminationArraySize a number of slots where pushing and popping threads meet under contention
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public ConcurrentLinkedStack(int eliminationArraySize) {
+        if (eliminationArraySize <= 0) {
+            throw new IllegalArgumentException("Elimination array size should be positive");
+        }
+        eliminationArray = new AtomicReferenceArray<>(eliminationArraySize);
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ConcurrentLinkedStack<T> of(T... elements) {
+        ConcurrentLinkedStack<T> stack = new ConcurrentLinkedStack<>();
+        for (T element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    @Override
+    public void push(T element) {
+        Node<T> node = new Node<>(Objects.requireNonNull(element));
+        while (!tryPush(node) && !tryEliminatePush(node)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> oldTop = top.get();
+            if (oldTop == null) {
+                throw new EmptyStackException();
+            }
+            if (top.compareAndSet(oldTop, oldTop.next)) {
+                return oldTop.element;
+            }
+            Node<T> eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                return eliminated.element;
+            }
+        }
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    @Override
+    public T peek() {
+        Node<T> currentTop = top.get();
+        if (currentTop == null) {
+            throw new EmptyStackException();
+        }
+        return currentTop.element;
+    }
+
+    @Override
+    public int size() {
+        Node<T> currentTop = top.get();
+        return currentTop == null ? 0 : currentTop.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    private boolean tryPush(Node<T> node) {
+        Node<T> oldTop = top.get();
+        node.next = oldTop;
+        node.size = oldTop == null ? 1 : oldTop.size + 1;
+        return top.compareAndSet(oldTop, node);
+    }
+
+    /**
+     * Offers a node in a random slot of the elimination array and waits for a popping thread to take it.
+     *
+     * @return true if the node was taken
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        if (!eliminationArray.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_WAIT_SPINS; i++) {
+            if (eliminationArray.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // a failed withdrawal means that a popping thread has just taken the node
+        return !eliminationArray.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node offered by a pushing thread from a random slot of the elimination array.
+     *
+     * @return a node, or null if the slot was empty
+     */
+    private Node<T> tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        Node<T> node = eliminationArray.get(slot);
+        if (node != null && eliminationArray.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+}
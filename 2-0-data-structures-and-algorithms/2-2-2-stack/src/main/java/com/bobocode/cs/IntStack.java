@@ -0,0 +1,82 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntStack} is an {@link ArrayStack} of {@code int} values. It follows the contract of {@link Stack}, but stores
+ * primitives, so pushing a value never allocates a boxed {@link Integer}.
+ */
+public class IntStack {
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final int initCapacity;
+    private final boolean shrinking;
+    private int[] elements;
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the stack
+     * @param shrinking    true if the array should shrink when the stack becomes a quarter full
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public IntStack(int initCapacity, boolean shrinking) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        this.initCapacity = initCapacity;
+        this.shrinking = shrinking;
+        elements = new int[initCapacity];
+    }
+
+    public void push(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length << 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        int element = elements[--size];
+        if (shrinking && size <= elements.length >> 2 && elements.length >> 1 >= initCapacity) {
+            elements = Arrays.copyOf(elements, elements.length >> 1);
+        }
+        return element;
+    }
+
+    /**
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a length of the backing array
+     */
+    int capacity() {
+        return elements.length;
+    }
+}
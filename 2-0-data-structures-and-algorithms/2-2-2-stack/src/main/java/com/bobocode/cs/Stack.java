@@ -18,4 +18,17 @@ public interface Stack<T> {
     int size();
 
     boolean isEmpty();
+
+    /**
+     * Returns the element at the top of this stack without removing it. The default implementation pops the element
+     * and pushes it back, so implementations should override it.
+     *
+     * @return the element at the top of this stack
+     * @throws com.bobocode.cs.exception.EmptyStackException if this stack is empty
+     */
+    default T peek() {
+        T element = pop();
+        push(element);
+        return element;
+    }
 }
@@ -0,0 +1,99 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link ArrayStack} and {@link IntStack} with {@link LinkedStack} on the pattern of an
+ * expression evaluator: every invocation pushes a batch of values and pops them back. Look at the
+ * "gc.alloc.rate.norm" metric reported by the GC profiler: the array-based stacks do not allocate, while
+ * {@link LinkedStack} allocates a node per push.
+ * <p>
+ * Please note that {@link LinkedStack} benchmarks require a completed exercise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayStackBenchmark {
+
+    @Param({"16", "1024"})
+    private int batchSize;
+
+    private final Integer element = 42;
+    private ArrayStack<Integer> arrayStack;
+    private IntStack intStack;
+
+    @Setup
+    public void setUp() {
+        arrayStack = new ArrayStack<>();
+        intStack = new IntStack();
+    }
+
+    /**
+     * A {@link LinkedStack} is kept in a separate state, so the other benchmarks still work when the exercise is not
+     * completed.
+     */
+    @State(Scope.Benchmark)
+    public static class LinkedStackState {
+        private LinkedStack<Integer> stack;
+
+        @Setup
+        public void setUp() {
+            stack = new LinkedStack<>();
+            stack.push(0);
+            stack.pop();
+        }
+    }
+
+    @Benchmark
+    public int arrayStack() {
+        for (int i = 0; i < batchSize; i++) {
+            arrayStack.push(element);
+        }
+        int sum = 0;
+        while (!arrayStack.isEmpty()) {
+            sum += arrayStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int intStack() {
+        for (int i = 0; i < batchSize; i++) {
+            intStack.push(i);
+        }
+        int sum = 0;
+        while (!intStack.isEmpty()) {
+            sum += intStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int linkedStack(LinkedStackState state) {
+        for (int i = 0; i < batchSize; i++) {
+            state.stack.push(element);
+        }
+        int sum = 0;
+        while (!state.stack.isEmpty()) {
+            sum += state.stack.pop();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ArrayStackBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
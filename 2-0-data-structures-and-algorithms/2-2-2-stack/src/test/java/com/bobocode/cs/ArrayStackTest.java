@@ -0,0 +1,87 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("ArrayStack Test")
+class ArrayStackTest {
+
+    @Test
+    @DisplayName("pop and peek return elements in reverse order")
+    void pushPopAndPeek() {
+        Stack<Integer> stack = ArrayStack.of(1, 2, 3);
+
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(2);
+        assertThat(stack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("the array doubles when it is full")
+    void growth() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2, false);
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.capacity()).isEqualTo(8);
+        for (int i = 4; i >= 0; i--) {
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.capacity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("a shrinking stack halves the array at a quarter of its capacity, but not below the initial one")
+    void shrinking() {
+        ArrayStack<Integer> stack = new ArrayStack<>(4, true);
+        for (int i = 0; i < 32; i++) {
+            stack.push(i);
+        }
+        while (stack.size() > 8) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(16);
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertThat(stack.capacity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("empty stacks, null elements and invalid capacities are rejected")
+    void invalidArguments() {
+        Stack<Integer> stack = new ArrayStack<>();
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<>(0, false));
+    }
+
+    @Test
+    @DisplayName("IntStack stores primitives with the same contract")
+    void intStack() {
+        IntStack stack = new IntStack(2, true);
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.peek()).isEqualTo(9);
+        assertThat(stack.size()).isEqualTo(10);
+        for (int i = 9; i >= 0; i--) {
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.capacity()).isEqualTo(2);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A multi-threaded JMH benchmark that compares {@link ConcurrentLinkedStack} with {@link LinkedStack} guarded by a
+ * single lock. Every operation is a push followed by a pop, which is the way a shared work pool is used.
+ * {@link #main(String[])} runs it with 1, 2, 4, ... 64 threads, so the scores show how throughput changes with
+ * contention. With more threads than processors, the lock-based stack also suffers from lock holder preemption.
+ * <p>
+ * Please note that {@link LinkedStack} benchmarks require a completed exercise.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentLinkedStackBenchmark {
+    private static final int MAX_THREADS = 64;
+    private static final int INITIAL_SIZE = 1000;
+
+    private final Integer element = 42;
+    private ConcurrentLinkedStack<Integer> concurrentStack;
+
+    @Setup
+    public void setUp() {
+        concurrentStack = new ConcurrentLinkedStack<>();
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            concurrentStack.push(element);
+        }
+    }
+
+    /**
+     * A {@link LinkedStack} is kept in a separate state, so the other benchmarks still work when the exercise is not
+     * completed.
+     */
+    @State(Scope.Benchmark)
+    public static class SynchronizedLinkedStack {
+        private LinkedStack<Integer> stack;
+
+        @Setup
+        public void setUp(ConcurrentLinkedStackBenchmark benchmark) {
+            stack = new LinkedStack<>();
+            for (int i = 0; i < INITIAL_SIZE; i++) {
+                stack.push(benchmark.element);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedStack() {
+        concurrentStack.push(element);
+        return concurrentStack.pop();
+    }
+
+    @Benchmark
+    public Integer synchronizedLinkedStack(SynchronizedLinkedStack state) {
+        synchronized (state.stack) {
+            state.stack.push(element);
+            return state.stack.pop();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= MAX_THREADS; threads <<= 1) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentLinkedStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+}
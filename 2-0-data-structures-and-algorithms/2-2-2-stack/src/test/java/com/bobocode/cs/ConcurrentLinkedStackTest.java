@@ -0,0 +1,103 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("ConcurrentLinkedStack Test")
+class ConcurrentLinkedStackTest {
+
+    private final Stack<Integer> stack = new ConcurrentLinkedStack<>();
+
+    @Test
+    @DisplayName("pop returns elements in reverse order")
+    void pushAndPop() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.size()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("of pushes elements in the given order")
+    void of() {
+        Stack<Integer> stack = ConcurrentLinkedStack.of(1, 2, 3);
+
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("pop on an empty stack throws EmptyStackException")
+    void popEmptyStack() {
+        assertThat(stack.isEmpty()).isTrue();
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    @DisplayName("null elements and an empty elimination array are rejected")
+    void invalidArguments() {
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentLinkedStack<>(0));
+    }
+
+    @Test
+    @DisplayName("concurrent pushes and pops neither lose nor duplicate elements")
+    void concurrentPushAndPop() throws Exception {
+        int threads = 8;
+        int elementsPerThread = 20_000;
+        ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>(1);
+        ConcurrentLinkedQueue<Integer> popped = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t * elementsPerThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = first; i < first + elementsPerThread; i++) {
+                        stack.push(i);
+                        if (i % 2 == 0) {
+                            popped.add(stack.pop());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        while (!stack.isEmpty()) {
+            popped.add(stack.pop());
+        }
+
+        assertThat(popped.stream().sorted().toList())
+                .isEqualTo(IntStream.range(0, threads * elementsPerThread).boxed().toList());
+    }
+}
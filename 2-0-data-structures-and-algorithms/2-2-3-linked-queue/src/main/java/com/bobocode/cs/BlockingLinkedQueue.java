@@ -0,0 +1,286 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockingLinkedQueue} implements {@link BlockingQueue} using singly linked nodes guarded by a single
+ * {@link ReentrantLock}. The queue is optionally bounded.
+ * <p>
+ * Waiting threads are woken one at a time: every added element signals a single consumer waiting on the "not empty"
+ * condition, and every removed element signals a single producer waiting on the "not full" condition. So an element
+ * does not wake all the waiting consumers just to let one of them take it and put the others back to sleep
+ * (thundering herd). A thread that is interrupted right after it was signalled passes the signal on.
+ * <p>
+ * Futures returned by {@link BlockingLinkedQueue#pollAsync()} wait in a FIFO list and have priority over blocked
+ * consumers: an added element is handed to the oldest pending future directly and never gets to the queue. Futures
+ * are completed outside the lock, so their callbacks cannot block the queue. If a future was cancelled or completed by
+ * the caller just before the hand-off, the element returns to the head of the queue. Futures that complete
+ * exceptionally (cancelled or timed out) leave the list right away.
+ * <p>
+ * Null elements are not supported.
+ *
+ * @param <T> a generic parameter
+ */
+public class BlockingLinkedQueue<T> implements BlockingQueue<T> {
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<CompletableFuture<T>> asyncWaiters = new ArrayDeque<>();
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Creates an unbounded queue.
+     */
+    public BlockingLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param capacity a maximum number of elements
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public BlockingLinkedQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        CompletableFuture<T> waiter;
+        lock.lock();
+        try {
+            waiter = asyncWaiters.poll();
+            if (waiter == null) {
+                if (size == capacity) {
+                    return false;
+                }
+                enqueue(element);
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        handOff(waiter, element);
+        return true;
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        offer(element, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        CompletableFuture<T> waiter;
+        lock.lockInterruptibly();
+        try {
+            waiter = asyncWaiters.poll();
+            if (waiter == null) {
+                try {
+                    while (size == capacity) {
+                        if (nanos <= 0) {
+                            return false;
+                        }
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                } catch (InterruptedException e) {
+                    notFull.signal();
+                    throw e;
+                }
+                enqueue(element);
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        handOff(waiter, element);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            try {
+                while (size == 0) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+            } catch (InterruptedException e) {
+                notEmpty.signal();
+                throw e;
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<T> pollAsync() {
+        lock.lock();
+        try {
+            if (size > 0) {
+                return CompletableFuture.completedFuture(dequeue());
+            }
+            CompletableFuture<T> waiter = new CompletableFuture<>();
+            asyncWaiters.add(waiter);
+            waiter.whenComplete((element, e) -> {
+                if (e != null) {
+                    removeAsyncWaiter(waiter);
+                }
+            });
+            return waiter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeAsyncWaiter(CompletableFuture<T> waiter) {
+        lock.lock();
+        try {
+            asyncWaiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return a number of futures returned by {@link BlockingLinkedQueue#pollAsync()} that wait for an element
+     */
+    int asyncWaiterCount() {
+        lock.lock();
+        try {
+            return asyncWaiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(T element) {
+        Node<T> node = new Node<>(element);
+        if (tail == null) {
+            head = tail = node;
+        } else {
+            tail.next = node;
+            tail = node;
+        }
+        size++;
+        notEmpty.signal();
+    }
+
+    private T dequeue() {
+        Node<T> node = head;
+        head = node.next;
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        notFull.signal();
+        return node.element;
+    }
+
+    /**
+     * Completes a future outside the lock. If the future is already done, the element is passed to the next async
+     * waiter or returned to the head of the queue, even if the queue is full.
+     */
+    private void handOff(CompletableFuture<T> waiter, T element) {
+        while (!waiter.complete(element)) {
+            lock.lock();
+            try {
+                waiter = asyncWaiters.poll();
+                if (waiter == null) {
+                    Node<T> node = new Node<>(element);
+                    node.next = head;
+                    head = node;
+                    if (tail == null) {
+                        tail = node;
+                    }
+                    size++;
+                    notEmpty.signal();
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingQueue} is a {@link Queue} for producer/consumer pipelines. Instead of polling an empty queue in a
+ * loop, a consumer either blocks until an element arrives or receives a {@link CompletableFuture} that is completed
+ * with the element later. A bounded queue also blocks producers while it is full.
+ *
+ * @param <T> a generic parameter
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue, waiting for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Adds an element to the end of the queue, waiting for free space up to a given time.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return true if the element was added, false if the time elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting for an element if the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting for an element up to a given time.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head without blocking a thread. If the queue is empty, the returned future is
+     * completed by a thread that adds the next element. A future that is cancelled or completed by the caller
+     * (e.g. using {@link CompletableFuture#orTimeout(long, TimeUnit)}) does not consume an element.
+     *
+     * @return a future of an element
+     */
+    CompletableFuture<T> pollAsync();
+}
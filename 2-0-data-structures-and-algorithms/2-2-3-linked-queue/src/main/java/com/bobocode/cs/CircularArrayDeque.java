@@ -0,0 +1,215 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+
+/**
+ * {@link CircularArrayDeque} is a double-ended queue based on a circular array. It implements both {@link Stack} and
+ * {@link Queue}, so it can replace {@link LinkedStack} and {@link LinkedQueue} without allocating a node per element.
+ * <p>
+ * Elements occupy a contiguous (modulo the array length) range that starts at the head index. The array length is
+ * always a power of two, so an index wraps around using a bit mask instead of a division. When the array is full, it
+ * doubles and the elements are copied to the beginning of the new array, which gives amortized constant time for all
+ * the operations. The array never shrinks, so once it is big enough, the deque does not allocate at all.
+ * <p>
+ * As a {@link Stack}, the deque pushes and pops elements at the head. As a {@link Queue}, it adds elements to the tail
+ * and polls them from the head. Null elements are not supported.
+ *
+ * @param <T> generic type parameter
+ */
+public class CircularArrayDeque<T> implements Stack<T>, Queue<T> {
+    static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    public CircularArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the deque, which is rounded up to a power of two
+     * @throws IllegalArgumentException if the specified initial capacity is negative, 0 or greater than 2^30
+     */
+    public CircularArrayDeque(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        if (initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity should not exceed " + MAX_CAPACITY);
+        }
+        elements = new Object[initCapacity == 1 ? 1 : Integer.highestOneBit(initCapacity - 1) << 1];
+    }
+
+    /**
+     * This method creates a deque of provided elements in queue order, so the first element is the head
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new deque of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> CircularArrayDeque<T> of(T... elements) {
+        CircularArrayDeque<T> deque = new CircularArrayDeque<>(Math.max(1, elements.length));
+        for (T element : elements) {
+            deque.addLast(element);
+        }
+        return deque;
+    }
+
+    /**
+     * Inserts an element at the head of the deque.
+     *
+     * @param element the element to add
+     */
+    public void addFirst(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Inserts an element at the tail of the deque.
+     *
+     * @param element the element to add
+     */
+    public void addLast(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = element;
+        size++;
+    }
+
+    /**
+     * Retrieves and removes the head of the deque.
+     *
+     * @return the head element or null if the deque is empty
+     */
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        T element = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the tail of the deque.
+     *
+     * @return the tail element or null if the deque is empty
+     */
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = (head + size - 1) & (elements.length - 1);
+        T element = elementAt(tail);
+        elements[tail] = null;
+        size--;
+        return element;
+    }
+
+    /**
+     * Retrieves the head of the deque without removing it.
+     *
+     * @return the head element or null if the deque is empty
+     */
+    public T peekFirst() {
+        return size == 0 ? null : elementAt(head);
+    }
+
+    /**
+     * Retrieves the tail of the deque without removing it.
+     *
+     * @return the tail element or null if the deque is empty
+     */
+    public T peekLast() {
+        return size == 0 ? null : elementAt((head + size - 1) & (elements.length - 1));
+    }
+
+    @Override
+    public void push(T element) {
+        addFirst(element);
+    }
+
+    /**
+     * @throws EmptyStackException if this deque is empty
+     */
+    @Override
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return pollFirst();
+    }
+
+    /**
+     * @throws EmptyStackException if this deque is empty
+     */
+    @Override
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elementAt(head);
+    }
+
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a length of the backing array
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Doubles the array and unwraps the elements, so the head moves to index 0.
+     */
+    private void grow() {
+        int length = elements.length;
+        if (length == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Deque is too big");
+        }
+        Object[] newElements = new Object[length << 1];
+        System.arraycopy(elements, head, newElements, 0, length - head);
+        System.arraycopy(elements, 0, newElements, length - head, head);
+        elements = newElements;
+        head = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+}
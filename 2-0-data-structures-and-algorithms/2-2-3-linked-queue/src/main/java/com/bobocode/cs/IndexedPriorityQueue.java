@@ -0,0 +1,218 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link IndexedPriorityQueue} is a d-ary heap of keys that are associated with integer indexes from 0 to a fixed
+ * maximum. It is used when elements are already identified by numbers (e.g. graph vertices or task slots): a key of
+ * any index can be found, decreased or increased in O(log n) time without handle objects.
+ * <p>
+ * The heap stores indexes, and a separate array keeps a position of every index in the heap, so the queue does not
+ * allocate after it is created.
+ *
+ * @param <T> generic type parameter of keys
+ */
+public class IndexedPriorityQueue<T> {
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private final Object[] keys;
+    private final int[] heap;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Creates a 4-ary heap.
+     *
+     * @param maxIndex   an exclusive upper bound of indexes
+     * @param comparator a comparator that defines the order of keys
+     */
+    public IndexedPriorityQueue(int maxIndex, Comparator<? super T> comparator) {
+        this(maxIndex, PriorityQueue.DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * @param maxIndex   an exclusive upper bound of indexes
+     * @param arity      a maximum number of children of a heap node
+     * @param comparator a comparator that defines the order of keys
+     * @throws IllegalArgumentException if the maximum index is negative or the arity is less than 2
+     */
+    public IndexedPriorityQueue(int maxIndex, int arity, Comparator<? super T> comparator) {
+        if (maxIndex < 0) {
+            throw new IllegalArgumentException("Max index should not be negative");
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity should be at least 2");
+        }
+        this.arity = arity;
+        this.comparator = Objects.requireNonNull(comparator);
+        keys = new Object[maxIndex];
+        heap = new int[maxIndex];
+        positions = new int[maxIndex];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Associates a key with an index.
+     *
+     * @param index an index that is not in the queue
+     * @param key   a key of the index
+     * @throws IllegalArgumentException if the index is already in the queue
+     */
+    public void insert(int index, T key) {
+        Objects.checkIndex(index, keys.length);
+        Objects.requireNonNull(key);
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue");
+        }
+        keys[index] = key;
+        heap[size] = index;
+        positions[index] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Replaces a key of an index with a key that goes before it (or is equal to it).
+     *
+     * @param index an index in the queue
+     * @param key   a new key of the index
+     * @throws IllegalArgumentException if the new key goes after the current one
+     */
+    public void decreaseKey(int index, T key) {
+        T current = keyOf(index);
+        Objects.requireNonNull(key);
+        if (comparator.compare(key, current) > 0) {
+            throw new IllegalArgumentException("New key should not go after the current one");
+        }
+        keys[index] = key;
+        siftUp(positions[index]);
+    }
+
+    /**
+     * Replaces a key of an index with a key that goes after it (or is equal to it).
+     *
+     * @param index an index in the queue
+     * @param key   a new key of the index
+     * @throws IllegalArgumentException if the new key goes before the current one
+     */
+    public void increaseKey(int index, T key) {
+        T current = keyOf(index);
+        Objects.requireNonNull(key);
+        if (comparator.compare(key, current) < 0) {
+            throw new IllegalArgumentException("New key should not go before the current one");
+        }
+        keys[index] = key;
+        siftDown(positions[index]);
+    }
+
+    /**
+     * @param index an index
+     * @return true if the index is in the queue
+     */
+    public boolean contains(int index) {
+        Objects.checkIndex(index, keys.length);
+        return positions[index] >= 0;
+    }
+
+    /**
+     * @param index an index in the queue
+     * @return a key of the index
+     * @throws NoSuchElementException if the index is not in the queue
+     */
+    public T keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue");
+        }
+        return keyAt(index);
+    }
+
+    /**
+     * Retrieves the index with the first key in the order of the comparator without removing it.
+     *
+     * @return the first index
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int peekIndex() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Retrieves and removes the index with the first key in the order of the comparator.
+     *
+     * @return the first index
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int pollIndex() {
+        int first = peekIndex();
+        size--;
+        heap[0] = heap[size];
+        positions[heap[0]] = 0;
+        positions[first] = -1;
+        keys[first] = null;
+        if (size > 0) {
+            siftDown(0);
+        }
+        return first;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        T key = keyAt(index);
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (comparator.compare(key, keyAt(heap[parent])) >= 0) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(index, position);
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        T key = keyAt(index);
+        while (true) {
+            int firstChild = arity * position + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int minChild = firstChild;
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (comparator.compare(keyAt(heap[child]), keyAt(heap[minChild])) < 0) {
+                    minChild = child;
+                }
+            }
+            if (comparator.compare(keyAt(heap[minChild]), key) >= 0) {
+                break;
+            }
+            place(heap[minChild], position);
+            position = minChild;
+        }
+        place(index, position);
+    }
+
+    private void place(int index, int position) {
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T keyAt(int index) {
+        return (T) keys[index];
+    }
+}
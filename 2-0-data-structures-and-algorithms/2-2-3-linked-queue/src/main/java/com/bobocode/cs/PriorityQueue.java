@@ -0,0 +1,279 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link PriorityQueue} is a {@link Queue} that polls elements in the order defined by a {@link Comparator} instead of
+ * the insertion order. It is based on an array-backed d-ary heap: every node has up to d children, which are stored
+ * next to each other in the array. A bigger arity makes the heap lower, so adding an element does fewer comparisons,
+ * while polling compares more children per level. The children of a node share a few cache lines, so d = 4 usually
+ * polls faster than a binary heap on big queues.
+ * <p>
+ * An element added using {@link PriorityQueue#insert(Object)} gets a {@link Handle} that tracks its position in the
+ * heap, so it can be moved up later using {@link PriorityQueue#decreaseKey(Handle, Object)} in O(log n) time.
+ * Elements added using {@link PriorityQueue#add(Object)} do not get a handle and do not allocate anything once the
+ * array is big enough. See {@link IndexedPriorityQueue} for keys that are identified by integer indexes.
+ * <p>
+ * Null elements are not supported.
+ *
+ * @param <T> generic type parameter
+ */
+public class PriorityQueue<T> implements Queue<T> {
+    static final int DEFAULT_ARITY = 4;
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Object[] elements;
+    /**
+     * Handles of elements by heap positions. The array is created by the first {@link PriorityQueue#insert(Object)},
+     * so a queue without handles does not pay for moving them.
+     */
+    private Handle<T>[] handles;
+    private int size;
+
+    /**
+     * A position of an element in the heap. A handle becomes invalid once its element is polled.
+     *
+     * @param <T> generic type parameter
+     */
+    public static final class Handle<T> {
+        private int index;
+
+        private Handle(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return true if the element is still in the queue
+         */
+        public boolean isValid() {
+            return index >= 0;
+        }
+    }
+
+    /**
+     * Creates a 4-ary heap.
+     *
+     * @param comparator a comparator that defines the order of elements
+     */
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * @param arity      a maximum number of children of a heap node
+     * @param comparator a comparator that defines the order of elements
+     * @throws IllegalArgumentException if the arity is less than 2
+     */
+    public PriorityQueue(int arity, Comparator<? super T> comparator) {
+        this(arity, comparator, new Object[DEFAULT_CAPACITY], 0);
+    }
+
+    private PriorityQueue(int arity, Comparator<? super T> comparator, Object[] elements, int size) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity should be at least 2");
+        }
+        this.arity = arity;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * This method creates a queue of provided elements in O(n) time. It sifts down every node that has children,
+     * starting from the last one, which is faster than adding the elements one by one in O(n log n) time.
+     *
+     * @param elements   elements to add
+     * @param arity      a maximum number of children of a heap node
+     * @param comparator a comparator that defines the order of elements
+     * @param <T>        generic type
+     * @return a new queue of elements from the array
+     */
+    public static <T> PriorityQueue<T> heapify(T[] elements, int arity, Comparator<? super T> comparator) {
+        Object[] copy = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, elements.length), Object[].class);
+        for (int i = 0; i < elements.length; i++) {
+            Objects.requireNonNull(copy[i]);
+        }
+        PriorityQueue<T> queue = new PriorityQueue<>(arity, comparator, copy, elements.length);
+        for (int i = queue.parent(elements.length - 1); i >= 0; i--) {
+            queue.siftDown(i);
+        }
+        return queue;
+    }
+
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size] = element;
+        siftUp(size++);
+    }
+
+    /**
+     * Adds an element and returns a handle that can be used to decrease it later.
+     *
+     * @param element the element to add
+     * @return a handle of the element
+     */
+    public Handle<T> insert(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        if (handles == null) {
+            handles = newHandles(elements.length);
+        }
+        Handle<T> handle = new Handle<>(size);
+        elements[size] = element;
+        handles[size] = handle;
+        siftUp(size++);
+        return handle;
+    }
+
+    /**
+     * Replaces an element with a new one that goes before it (or is equal to it) and moves it up the heap.
+     *
+     * @param handle     a handle of the element
+     * @param newElement the new element
+     * @throws IllegalArgumentException if the handle is invalid or the new element goes after the current one
+     */
+    public void decreaseKey(Handle<T> handle, T newElement) {
+        Objects.requireNonNull(newElement);
+        if (!handle.isValid() || handle.index >= size || handles == null || handles[handle.index] != handle) {
+            throw new IllegalArgumentException("Handle is not valid");
+        }
+        if (comparator.compare(newElement, elementAt(handle.index)) > 0) {
+            throw new IllegalArgumentException("New element should not go after the current one");
+        }
+        elements[handle.index] = newElement;
+        siftUp(handle.index);
+    }
+
+    /**
+     * Retrieves and removes the element that goes first in the order of the comparator.
+     *
+     * @return the first element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = elementAt(0);
+        Handle<T> handle = handleAt(0);
+        size--;
+        move(size, 0);
+        elements[size] = null;
+        if (handles != null) {
+            handles[size] = null;
+        }
+        if (size > 0) {
+            siftDown(0);
+        }
+        if (handle != null) {
+            handle.index = -1;
+        }
+        return first;
+    }
+
+    /**
+     * Retrieves the element that goes first in the order of the comparator without removing it.
+     *
+     * @return the first element or null if queue is empty
+     */
+    public T peek() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int index) {
+        T element = elementAt(index);
+        Handle<T> handle = handleAt(index);
+        while (index > 0) {
+            int parent = parent(index);
+            if (comparator.compare(element, elementAt(parent)) >= 0) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        place(element, handle, index);
+    }
+
+    private void siftDown(int index) {
+        T element = elementAt(index);
+        Handle<T> handle = handleAt(index);
+        int firstChild;
+        while ((firstChild = arity * index + 1) < size) {
+            int minChild = firstChild;
+            T min = elementAt(firstChild);
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T candidate = elementAt(child);
+                if (comparator.compare(candidate, min) < 0) {
+                    minChild = child;
+                    min = candidate;
+                }
+            }
+            if (comparator.compare(min, element) >= 0) {
+                break;
+            }
+            move(minChild, index);
+            index = minChild;
+        }
+        place(element, handle, index);
+    }
+
+    private int parent(int index) {
+        return (index - 1) / arity;
+    }
+
+    private void move(int from, int to) {
+        place(elements[from], handleAt(from), to);
+    }
+
+    private void place(Object element, Handle<T> handle, int index) {
+        elements[index] = element;
+        if (handles != null) {
+            handles[index] = handle;
+            if (handle != null) {
+                handle.index = index;
+            }
+        }
+    }
+
+    private Handle<T> handleAt(int index) {
+        return handles == null ? null : handles[index];
+    }
+
+    private void grow() {
+        elements = Arrays.copyOf(elements, elements.length << 1);
+        if (handles != null) {
+            handles = Arrays.copyOf(handles, elements.length);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Handle<T>[] newHandles(int length) {
+        return new Handle[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+}
@@ -0,0 +1,288 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RingBufferQueue} is a bounded, lock-free {@link Queue} based on a ring buffer (an array used in a circle), as
+ * described by Dmitry Vyukov and used by the LMAX Disruptor. It does not allocate anything on add and poll.
+ * <p>
+ * Producers and consumers claim positions by incrementing a tail and a head counter. Every slot of the buffer has its
+ * own sequence number that tells whether the slot is ready for a producer of a given position or for a consumer.
+ * So a producer and a consumer never wait for each other unless the queue is full or empty, and the counters are
+ * {@link Sequence}s padded to separate cache lines.
+ * <p>
+ * When there is a single producer (or a single consumer) thread, the corresponding counter is updated with a plain
+ * ordered write instead of compare-and-set. Using {@link ProducerType#SINGLE} or {@link ConsumerType#SINGLE} from
+ * several threads breaks the queue.
+ * <p>
+ * Null elements are not supported.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 10_000;
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final boolean singleProducer;
+    private final boolean singleConsumer;
+    private final Sequence tail = new Sequence(0);
+    private final Sequence head = new Sequence(0);
+
+    /**
+     * Defines whether one or several threads add elements to a queue.
+     */
+    public enum ProducerType {
+        SINGLE, MULTI
+    }
+
+    /**
+     * Defines whether one or several threads poll elements from a queue.
+     */
+    public enum ConsumerType {
+        SINGLE, MULTI
+    }
+
+    /**
+     * Creates a queue for multiple producers and multiple consumers.
+     *
+     * @param capacity a maximum number of elements, it is rounded up to a power of two (at least 2)
+     */
+    public RingBufferQueue(int capacity) {
+        this(capacity, ProducerType.MULTI, ConsumerType.MULTI);
+    }
+
+    /**
+     * @param capacity     a maximum number of elements, it is rounded up to a power of two (at least 2)
+     * @param producerType whether elements are added by a single thread
+     * @param consumerType whether elements are polled by a single thread
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public RingBufferQueue(int capacity, ProducerType producerType, ConsumerType consumerType) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity should be between 1 and 2^30");
+        }
+        // with a single slot, "filled for position n" and "free for position n + 1" would be the same sequence
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+        singleProducer = Objects.requireNonNull(producerType) == ProducerType.SINGLE;
+        singleConsumer = Objects.requireNonNull(consumerType) == ConsumerType.SINGLE;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (singleProducer) {
+                    tail.setRelease(position + 1);
+                    break;
+                }
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // the slot still holds an element from the previous round
+            } else {
+                position = tail.get(); // another producer has taken the position
+            }
+        }
+        int index = (int) position & mask;
+        buffer[index] = element;
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Adds an element waiting for free space up to a given time.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return true if the element was added, false if the time elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !offer(element); attempt++) {
+            if (!backOff(attempt, deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (singleConsumer) {
+                    head.setRelease(position + 1);
+                    break;
+                }
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null; // the slot is not filled yet
+            } else {
+                position = head.get(); // another consumer has taken the position
+            }
+        }
+        return take(position);
+    }
+
+    /**
+     * Retrieves and removes queue head waiting for an element up to a given time.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T element;
+        for (int attempt = 0; (element = poll()) == null; attempt++) {
+            if (!backOff(attempt, deadline)) {
+                return null;
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Removes up to a given number of available elements and adds them to a collection. A single consumer claims all
+     * the ready elements at once and moves the head only once.
+     *
+     * @param target      a collection to add elements to
+     * @param maxElements a maximum number of elements to remove
+     * @return a number of removed elements
+     */
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        Objects.requireNonNull(target);
+        if (!singleConsumer) {
+            int count = 0;
+            T element;
+            while (count < maxElements && (element = poll()) != null) {
+                target.add(element);
+                count++;
+            }
+            return count;
+        }
+        long position = head.get();
+        int count = 0;
+        while (count < maxElements && sequences.getAcquire((int) (position + count) & mask) == position + count + 1) {
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            target.add(take(position + i));
+        }
+        head.setRelease(position + count);
+        return count;
+    }
+
+    /**
+     * Returns an approximate number of elements. It is exact only when no thread modifies the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long currentHead;
+        long currentTail;
+        do {
+            currentHead = head.get();
+            currentTail = tail.get();
+        } while (currentHead != head.get());
+        return (int) Math.max(0, Math.min(currentTail - currentHead, buffer.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return a maximum number of elements
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take(long position) {
+        int index = (int) position & mask;
+        T element = (T) buffer[index];
+        buffer[index] = null;
+        sequences.setRelease(index, position + buffer.length);
+        return element;
+    }
+
+    /**
+     * Waits before the next attempt: spins first, then yields the processor, and then parks the thread for a short
+     * time, so a long wait does not burn a processor.
+     *
+     * @return false if the deadline has passed
+     */
+    private static boolean backOff(int attempt, long deadline) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(PARK_NANOS, remaining));
+        }
+        return true;
+    }
+}
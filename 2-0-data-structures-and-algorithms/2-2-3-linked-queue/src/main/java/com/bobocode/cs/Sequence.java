@@ -0,0 +1,57 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * {@link Sequence} is a counter with atomic operations, which is padded with unused fields, so it takes a cache line
+ * (64 bytes) on both sides on its own. Without padding, a producer counter and a consumer counter of
+ * {@link RingBufferQueue} could share a cache line, and every write by one side would invalidate the line cached by the
+ * other side (false sharing).
+ * <p>
+ * The JVM may reorder fields inside a class, but fields of a superclass are always laid out before fields of a
+ * subclass. That is why the padding and the value are declared in a chain of classes.
+ */
+final class Sequence extends SequenceValue {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p9, p10, p11, p12, p13, p14, p15;
+
+    Sequence(long initialValue) {
+        value = initialValue;
+    }
+
+    long get() {
+        return value;
+    }
+
+    /**
+     * Sets a value with release semantics: the writes made before are visible to a thread that reads the new value.
+     * It is cheaper than a volatile write and is enough for a counter that has a single writer.
+     */
+    void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+}
+
+abstract class SequenceLeftPadding {
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+}
+
+abstract class SequenceValue extends SequenceLeftPadding {
+    volatile long value;
+}
@@ -0,0 +1,106 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A multi-threaded JMH benchmark that measures hand-off latency of {@link BlockingLinkedQueue} and
+ * {@link LinkedBlockingQueue}. Every benchmark is a ping-pong group of two threads: the pinger puts an element into
+ * one queue and waits for it to come back through another, and the ponger moves elements from the first queue to the
+ * second. So a single pinger operation is a round trip of two hand-offs to a waiting thread.
+ * <p>
+ * The async variant waits for the element using {@link BlockingLinkedQueue#pollAsync()}. Waiting uses timed polls, so
+ * a thread that is left waiting when an iteration ends does not hang the benchmark.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingLinkedQueueBenchmark {
+    private static final long TIMEOUT_MILLIS = 100;
+
+    private final Integer element = 42;
+    private BlockingLinkedQueue<Integer> blockingPing;
+    private BlockingLinkedQueue<Integer> blockingPong;
+    private BlockingLinkedQueue<Integer> asyncPing;
+    private BlockingLinkedQueue<Integer> asyncPong;
+    private LinkedBlockingQueue<Integer> jdkPing;
+    private LinkedBlockingQueue<Integer> jdkPong;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        blockingPing = new BlockingLinkedQueue<>();
+        blockingPong = new BlockingLinkedQueue<>();
+        asyncPing = new BlockingLinkedQueue<>();
+        asyncPong = new BlockingLinkedQueue<>();
+        jdkPing = new LinkedBlockingQueue<>();
+        jdkPong = new LinkedBlockingQueue<>();
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public Integer blockingPinger() throws InterruptedException {
+        blockingPing.put(element);
+        return blockingPong.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public void blockingPonger() throws InterruptedException {
+        Integer received = blockingPing.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (received != null) {
+            blockingPong.put(received);
+        }
+    }
+
+    @Benchmark
+    @Group("async")
+    @GroupThreads(1)
+    public Integer asyncPinger() throws Exception {
+        asyncPing.put(element);
+        return asyncPong.pollAsync().orTimeout(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).exceptionally(e -> null).join();
+    }
+
+    @Benchmark
+    @Group("async")
+    @GroupThreads(1)
+    public void asyncPonger() throws InterruptedException {
+        Integer received = asyncPing.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (received != null) {
+            asyncPong.put(received);
+        }
+    }
+
+    @Benchmark
+    @Group("linkedBlockingQueue")
+    @GroupThreads(1)
+    public Integer linkedBlockingQueuePinger() throws InterruptedException {
+        jdkPing.put(element);
+        return jdkPong.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("linkedBlockingQueue")
+    @GroupThreads(1)
+    public void linkedBlockingQueuePonger() throws InterruptedException {
+        Integer received = jdkPing.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (received != null) {
+            jdkPong.put(received);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BlockingLinkedQueueBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
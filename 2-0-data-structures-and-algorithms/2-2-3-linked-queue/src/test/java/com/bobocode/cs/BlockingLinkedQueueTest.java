@@ -0,0 +1,200 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BlockingLinkedQueue Test")
+class BlockingLinkedQueueTest {
+
+    @Test
+    @DisplayName("poll returns elements in the order they were added")
+    void fifo() {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("bounded queue rejects elements when it is full")
+    void bounded() throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(2);
+        queue.add(1);
+        queue.put(2);
+
+        assertThat(queue.offer(3)).isFalse();
+        assertThat(queue.offer(3, 10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> queue.add(3));
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isEqualTo(1);
+        assertThat(queue.offer(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("constructor and add reject invalid arguments")
+    void invalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingLinkedQueue<>(0));
+        assertThatNullPointerException().isThrownBy(() -> new BlockingLinkedQueue<>().add(null));
+    }
+
+    @Test
+    @DisplayName("take waits for an element added by another thread")
+    void takeWaitsForElement() throws Exception {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(queue::take);
+            Thread.sleep(20);
+            queue.add(42);
+
+            assertThat(taken.get(10, TimeUnit.SECONDS)).isEqualTo(42);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("put waits for free space in a full queue")
+    void putWaitsForSpace() throws Exception {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(1);
+        queue.add(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> put = executor.submit(() -> {
+                queue.put(2);
+                return null;
+            });
+            Thread.sleep(20);
+            assertThat(put.isDone()).isFalse();
+
+            assertThat(queue.take()).isEqualTo(1);
+            put.get(10, TimeUnit.SECONDS);
+            assertThat(queue.poll()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("take throws InterruptedException when a waiting thread is interrupted")
+    void interruptedTake() throws Exception {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(queue::take);
+            Thread.sleep(20);
+            taken.cancel(true);
+            executor.shutdown();
+
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("pollAsync completes right away when the queue has elements")
+    void pollAsyncCompletedImmediately() {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        queue.add(1);
+
+        assertThat(queue.pollAsync()).isCompletedWithValue(1);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pending pollAsync futures are completed in order by added elements")
+    void pollAsyncCompletedByAdd() {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        CompletableFuture<Integer> first = queue.pollAsync();
+        CompletableFuture<Integer> second = queue.pollAsync();
+
+        assertThat(first).isNotDone();
+        assertThat(queue.asyncWaiterCount()).isEqualTo(2);
+
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(first).isCompletedWithValue(1);
+        assertThat(second).isCompletedWithValue(2);
+        assertThat(queue.asyncWaiterCount()).isZero();
+        assertThat(queue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("cancelled or timed out pollAsync futures do not consume elements")
+    void pollAsyncCancelled() {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        CompletableFuture<Integer> cancelled = queue.pollAsync();
+        CompletableFuture<Integer> timedOut = queue.pollAsync().orTimeout(1, TimeUnit.MILLISECONDS);
+        cancelled.cancel(false);
+
+        assertThatThrownBy(timedOut::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(queue.asyncWaiterCount()).isZero();
+
+        queue.add(1);
+        assertThat(queue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("concurrent producers and consumers transfer every element exactly once")
+    void concurrentTransfer() throws Exception {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(16);
+        int producers = 4;
+        int elementsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        try {
+            List<Future<List<Integer>>> consumed = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int offset = p * elementsPerProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.put(offset + i);
+                    }
+                    return null;
+                });
+                consumed.add(executor.submit(() -> {
+                    List<Integer> taken = new ArrayList<>();
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        taken.add(i % 2 == 0 ? queue.take() : queue.pollAsync().get());
+                    }
+                    return taken;
+                }));
+            }
+            List<Integer> all = new ArrayList<>();
+            for (Future<List<Integer>> future : consumed) {
+                all.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            all.sort(null);
+
+            assertThat(all).isEqualTo(IntStream.range(0, producers * elementsPerProducer).boxed().toList());
+            assertThat(queue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
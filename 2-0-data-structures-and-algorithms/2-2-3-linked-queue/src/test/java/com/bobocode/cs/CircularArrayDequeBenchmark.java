@@ -0,0 +1,113 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link CircularArrayDeque} with {@link LinkedStack} and {@link LinkedQueue}. Every
+ * invocation pushes (adds) a batch of elements and pops (polls) them back. Look at the "gc.alloc.rate.norm" metric
+ * reported by the GC profiler: the deque reuses its array, while the linked implementations allocate a node per
+ * element.
+ * <p>
+ * Please note that {@link LinkedStack} and {@link LinkedQueue} benchmarks require completed exercises.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircularArrayDequeBenchmark {
+
+    @Param({"16", "1024"})
+    private int batchSize;
+
+    private final Integer element = 42;
+    private CircularArrayDeque<Integer> deque;
+
+    @Setup
+    public void setUp() {
+        deque = new CircularArrayDeque<>();
+    }
+
+    /**
+     * Linked implementations are kept in a separate state, so the other benchmarks still work when the exercises are
+     * not completed.
+     */
+    @State(Scope.Benchmark)
+    public static class LinkedState {
+        private LinkedStack<Integer> stack;
+        private LinkedQueue<Integer> queue;
+
+        @Setup
+        public void setUp() {
+            stack = new LinkedStack<>();
+            queue = new LinkedQueue<>();
+            stack.push(0);
+            stack.pop();
+            queue.add(0);
+            queue.poll();
+        }
+    }
+
+    @Benchmark
+    public int dequeAsStack() {
+        for (int i = 0; i < batchSize; i++) {
+            deque.push(element);
+        }
+        int sum = 0;
+        while (!deque.isEmpty()) {
+            sum += deque.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int dequeAsQueue() {
+        for (int i = 0; i < batchSize; i++) {
+            deque.add(element);
+        }
+        int sum = 0;
+        while (!deque.isEmpty()) {
+            sum += deque.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int linkedStack(LinkedState state) {
+        for (int i = 0; i < batchSize; i++) {
+            state.stack.push(element);
+        }
+        int sum = 0;
+        while (!state.stack.isEmpty()) {
+            sum += state.stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int linkedQueue(LinkedState state) {
+        for (int i = 0; i < batchSize; i++) {
+            state.queue.add(element);
+        }
+        int sum = 0;
+        while (!state.queue.isEmpty()) {
+            sum += state.queue.poll();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CircularArrayDequeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
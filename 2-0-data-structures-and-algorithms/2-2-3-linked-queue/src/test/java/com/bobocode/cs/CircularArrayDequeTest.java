@@ -0,0 +1,120 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("CircularArrayDeque Test")
+class CircularArrayDequeTest {
+
+    @Test
+    @DisplayName("as a stack, pop and peek return elements in reverse order")
+    void stack() {
+        Stack<Integer> stack = new CircularArrayDeque<>();
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("as a queue, poll returns elements in the order they were added")
+    void queue() {
+        Queue<Integer> queue = CircularArrayDeque.of(1, 2);
+        queue.add(3);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("the capacity is a power of two that doubles when the deque is full, keeping wrapped elements in order")
+    void growth() {
+        CircularArrayDeque<Integer> deque = new CircularArrayDeque<>(3);
+        assertThat(deque.capacity()).isEqualTo(4);
+
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addFirst(1);
+        deque.addFirst(0);
+        deque.addLast(4);
+
+        assertThat(deque.capacity()).isEqualTo(8);
+        for (int i = 0; i < 5; i++) {
+            assertThat(deque.pollFirst()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("the array is reused once the deque is big enough")
+    void steadyState() {
+        CircularArrayDeque<Integer> deque = new CircularArrayDeque<>(4);
+        for (int i = 0; i < 1000; i++) {
+            deque.add(i);
+            deque.add(i);
+            deque.poll();
+            deque.poll();
+        }
+
+        assertThat(deque.capacity()).isEqualTo(4);
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("empty deques, null elements and invalid capacities are rejected")
+    void invalidArguments() {
+        CircularArrayDeque<Integer> deque = new CircularArrayDeque<>();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(deque::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(deque::peek);
+        assertThat(deque.peekFirst()).isNull();
+        assertThat(deque.pollLast()).isNull();
+        assertThatNullPointerException().isThrownBy(() -> deque.add(null));
+        assertThatNullPointerException().isThrownBy(() -> deque.push(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CircularArrayDeque<>(0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CircularArrayDeque<>(CircularArrayDeque.MAX_CAPACITY + 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CircularArrayDeque<>(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.ArrayDeque")
+    void randomOperations() {
+        CircularArrayDeque<Integer> deque = new CircularArrayDeque<>(1);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt();
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    deque.addFirst(value);
+                    expected.addFirst(value);
+                }
+                case 1 -> {
+                    deque.addLast(value);
+                    expected.addLast(value);
+                }
+                case 2 -> assertThat(deque.pollFirst()).isEqualTo(expected.pollFirst());
+                case 3 -> assertThat(deque.pollLast()).isEqualTo(expected.pollLast());
+                case 4 -> assertThat(deque.peekFirst()).isEqualTo(expected.peekFirst());
+                default -> assertThat(deque.peekLast()).isEqualTo(expected.peekLast());
+            }
+            assertThat(deque.size()).isEqualTo(expected.size());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("IndexedPriorityQueue Test")
+class IndexedPriorityQueueTest {
+
+    @Test
+    @DisplayName("pollIndex returns indexes in the order of their keys")
+    void order() {
+        IndexedPriorityQueue<String> queue = new IndexedPriorityQueue<>(10, Comparator.naturalOrder());
+        queue.insert(3, "c");
+        queue.insert(7, "a");
+        queue.insert(0, "b");
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.peekIndex()).isEqualTo(7);
+        assertThat(queue.pollIndex()).isEqualTo(7);
+        assertThat(queue.pollIndex()).isEqualTo(0);
+        assertThat(queue.pollIndex()).isEqualTo(3);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.contains(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("decreaseKey and increaseKey move an index in the heap")
+    void changeKey() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(100, 2, Comparator.naturalOrder());
+        for (int i = 0; i < 100; i++) {
+            queue.insert(i, i * 10);
+        }
+        queue.decreaseKey(50, -1);
+        queue.increaseKey(0, 2000);
+
+        assertThat(queue.keyOf(50)).isEqualTo(-1);
+        assertThat(queue.pollIndex()).isEqualTo(50);
+        assertThat(queue.pollIndex()).isEqualTo(1);
+        int last = -1;
+        while (!queue.isEmpty()) {
+            last = queue.pollIndex();
+        }
+        assertThat(last).isZero();
+    }
+
+    @Test
+    @DisplayName("invalid indexes and key changes are rejected")
+    void invalidArguments() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(2, Comparator.naturalOrder());
+        queue.insert(0, 5);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.insert(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.decreaseKey(0, 6));
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.increaseKey(0, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> queue.insert(2, 1));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> queue.keyOf(1));
+        queue.pollIndex();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(queue::pollIndex);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link PriorityQueue} heaps of different arity on the pattern of a scheduler: every
+ * invocation polls the first element and adds a new one, so the size stays the same. With a heap that does not fit
+ * into the CPU caches, a 4-ary heap is expected to be faster than a binary one, because it is half as high and the
+ * children of a node are close to each other in memory. {@link java.util.PriorityQueue}, which is a binary heap, is
+ * included as a baseline.
+ * <p>
+ * The heapify benchmark builds a queue of the same size from an array in O(n) time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityQueueBenchmark {
+
+    @Param({"2", "4", "8"})
+    private int arity;
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private Integer[] elements;
+    private PriorityQueue<Integer> queue;
+    private java.util.PriorityQueue<Integer> jdkQueue;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        elements = new Random(42).ints(size).boxed().toArray(Integer[]::new);
+        queue = PriorityQueue.heapify(elements, arity, Comparator.naturalOrder());
+        jdkQueue = new java.util.PriorityQueue<>(size, Comparator.naturalOrder());
+        Collections.addAll(jdkQueue, elements);
+    }
+
+    @Benchmark
+    public Integer pollAndAdd() {
+        Integer first = queue.poll();
+        queue.add(elements[next++ & (size - 1)]);
+        return first;
+    }
+
+    @Benchmark
+    public Integer jdkPollAndAdd() {
+        Integer first = jdkQueue.poll();
+        jdkQueue.add(elements[next++ & (size - 1)]);
+        return first;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public PriorityQueue<Integer> heapify() {
+        return PriorityQueue.heapify(elements, arity, Comparator.naturalOrder());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PriorityQueueBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,138 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.PriorityQueue.Handle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("PriorityQueue Test")
+class PriorityQueueTest {
+
+    @Test
+    @DisplayName("poll returns elements in the order of the comparator")
+    void order() {
+        Queue<Integer> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        queue.add(2);
+        queue.add(5);
+        queue.add(1);
+        queue.add(4);
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("decreaseKey moves an element up and its handle becomes invalid once it is polled")
+    void decreaseKey() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(2, Comparator.naturalOrder());
+        for (int i = 10; i < 20; i++) {
+            queue.add(i);
+        }
+        Handle<Integer> handle = queue.insert(30);
+        queue.decreaseKey(handle, 5);
+
+        assertThat(handle.isValid()).isTrue();
+        assertThat(queue.peek()).isEqualTo(5);
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(handle.isValid()).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.decreaseKey(handle, 1));
+    }
+
+    @Test
+    @DisplayName("decreaseKey rejects an element that goes after the current one")
+    void decreaseKeyToBiggerElement() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.naturalOrder());
+        Handle<Integer> handle = queue.insert(5);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.decreaseKey(handle, 6));
+        assertThat(queue.poll()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("decreaseKey rejects a handle of another queue")
+    void decreaseKeyWithForeignHandle() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.naturalOrder());
+        queue.insert(5);
+        PriorityQueue<Integer> otherQueue = new PriorityQueue<>(Comparator.naturalOrder());
+        Handle<Integer> foreignHandle = null;
+        for (int i = 0; i < 100; i++) {
+            foreignHandle = otherQueue.insert(i);
+        }
+        Handle<Integer> handle = foreignHandle;
+
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.decreaseKey(handle, -1));
+        assertThat(queue.poll()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("heapify builds a queue of array elements")
+    void heapify() {
+        Integer[] elements = new Random(42).ints(1000, 0, 100).boxed().toArray(Integer[]::new);
+        PriorityQueue<Integer> queue = PriorityQueue.heapify(elements, 3, Comparator.naturalOrder());
+
+        List<Integer> polled = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+        assertThat(polled).isSorted().hasSize(elements.length);
+        assertThat(PriorityQueue.heapify(new Integer[0], 2, Comparator.<Integer>naturalOrder()).poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("null elements and invalid arities are rejected")
+    void invalidArguments() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new PriorityQueue<Integer>(Comparator.naturalOrder()).add(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new PriorityQueue<Integer>(1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.PriorityQueue")
+    void randomOperations() {
+        for (int arity = 2; arity <= 5; arity++) {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(arity, Comparator.naturalOrder());
+            java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+            List<Handle<Integer>> handles = new ArrayList<>();
+            List<Integer> handleElements = new ArrayList<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(1000);
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        queue.add(value);
+                        expected.add(value);
+                    }
+                    case 1 -> {
+                        handles.add(queue.insert(value));
+                        handleElements.add(value);
+                        expected.add(value);
+                    }
+                    case 2 -> {
+                        int h = random.nextInt(handles.size() + 1) - 1;
+                        if (h >= 0 && handles.get(h).isValid() && handleElements.get(h) >= value) {
+                            queue.decreaseKey(handles.get(h), value);
+                            expected.remove(handleElements.get(h));
+                            expected.add(value);
+                            handleElements.set(h, value);
+                        }
+                    }
+                    default -> assertThat(queue.poll()).isEqualTo(expected.poll());
+                }
+                assertThat(queue.size()).isEqualTo(expected.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.RingBufferQueue.ConsumerType;
+import com.bobocode.cs.RingBufferQueue.ProducerType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A multi-threaded JMH benchmark that compares {@link RingBufferQueue} with {@link ArrayBlockingQueue}, which is a
+ * bounded queue guarded by a single lock. Every benchmark is a group of producer threads that offer elements and
+ * consumer threads that poll them: one producer and one consumer for the single-producer/single-consumer queue, and
+ * two of each for the multi-producer/multi-consumer one.
+ * <p>
+ * Throughput is reported per thread method, and the sample mode shows the latency distribution of a single offer or
+ * poll. Please note that producers and consumers run concurrently only with enough processors.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferQueueBenchmark {
+    private static final int CAPACITY = 1024;
+
+    private final Integer element = 42;
+    private RingBufferQueue<Integer> spscQueue;
+    private RingBufferQueue<Integer> mpmcQueue;
+    private ArrayBlockingQueue<Integer> arrayBlockingQueue;
+
+    @Setup
+    public void setUp() {
+        spscQueue = new RingBufferQueue<>(CAPACITY, ProducerType.SINGLE, ConsumerType.SINGLE);
+        mpmcQueue = new RingBufferQueue<>(CAPACITY);
+        arrayBlockingQueue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer() {
+        return spscQueue.offer(element);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll() {
+        return spscQueue.poll();
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public boolean mpmcOffer() {
+        return mpmcQueue.offer(element);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public Integer mpmcPoll() {
+        return mpmcQueue.poll();
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(2)
+    public boolean arrayBlockingQueueOffer() {
+        return arrayBlockingQueue.offer(element);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(2)
+    public Integer arrayBlockingQueuePoll() {
+        return arrayBlockingQueue.poll();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RingBufferQueueBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
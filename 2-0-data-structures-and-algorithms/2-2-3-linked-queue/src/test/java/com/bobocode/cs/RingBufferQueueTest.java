@@ -0,0 +1,176 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.RingBufferQueue.ConsumerType;
+import com.bobocode.cs.RingBufferQueue.ProducerType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("RingBufferQueue Test")
+class RingBufferQueueTest {
+
+    @Test
+    @DisplayName("poll returns elements in the order they were added")
+    void fifo() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+        for (int round = 0; round < 3; round++) {
+            queue.add(1);
+            queue.add(2);
+            queue.add(3);
+
+            assertThat(queue.size()).isEqualTo(3);
+            assertThat(queue.poll()).isEqualTo(1);
+            assertThat(queue.poll()).isEqualTo(2);
+            assertThat(queue.poll()).isEqualTo(3);
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("capacity is rounded up to a power of two and bounds the queue")
+    void bounded() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(3);
+
+        assertThat(queue.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> queue.add(4));
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("timed offer and poll give up after the timeout")
+    void timeouts() throws InterruptedException {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(1);
+
+        assertThat(queue.capacity()).isEqualTo(2);
+        assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+        queue.add(1);
+        queue.add(2);
+        assertThat(queue.offer(3, 10, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("timed poll returns an element added by another thread")
+    void timedPollWaitsForElement() throws Exception {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> polled = executor.submit(() -> queue.poll(10, TimeUnit.SECONDS));
+            Thread.sleep(20);
+            queue.add(42);
+
+            assertThat(polled.get()).isEqualTo(42);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("drainTo removes available elements up to a limit")
+    void drainTo() {
+        for (ConsumerType consumerType : ConsumerType.values()) {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(8, ProducerType.MULTI, consumerType);
+            for (int i = 0; i < 6; i++) {
+                queue.add(i);
+            }
+            List<Integer> target = new ArrayList<>();
+
+            assertThat(queue.drainTo(target, 4)).isEqualTo(4);
+            assertThat(queue.drainTo(target, 4)).isEqualTo(2);
+            assertThat(queue.drainTo(target, 4)).isZero();
+            assertThat(target).containsExactly(0, 1, 2, 3, 4, 5);
+            assertThat(queue.offer(6)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("null elements and invalid capacities are rejected")
+    void invalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBufferQueue<>(0));
+        assertThatNullPointerException().isThrownBy(() -> new RingBufferQueue<>(2).add(null));
+    }
+
+    @Test
+    @DisplayName("a single consumer gets elements of a single producer in order")
+    void singleProducerSingleConsumer() throws Exception {
+        int count = 100_000;
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(64, ProducerType.SINGLE, ConsumerType.SINGLE);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < count; i++) {
+                    queue.offer(i, 10, TimeUnit.SECONDS);
+                }
+                return null;
+            });
+            for (int i = 0; i < count; i++) {
+                assertThat(queue.poll(10, TimeUnit.SECONDS)).isEqualTo(i);
+            }
+            producer.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("multiple producers and consumers neither lose nor duplicate elements")
+    void multiProducerMultiConsumer() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 25_000;
+        int total = producers * elementsPerProducer;
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(128);
+        ConcurrentLinkedQueue<Integer> consumed = new ConcurrentLinkedQueue<>();
+        AtomicInteger consumedCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int first = p * elementsPerProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = first; i < first + elementsPerProducer; i++) {
+                        assertThat(queue.offer(i, 10, TimeUnit.SECONDS)).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    while (consumedCount.get() < total) {
+                        Integer element = queue.poll(1, TimeUnit.MILLISECONDS);
+                        if (element != null) {
+                            consumed.add(element);
+                            consumedCount.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(consumed.stream().sorted().toList()).isEqualTo(IntStream.range(0, total).boxed().toList());
+    }
+}
@@ -0,0 +1,350 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link DoublyLinkedList} is a list implementation that is based on doubly linked generic nodes. Unlike
+ * {@link LinkedList}, every node references both its neighbours, so a node can be unlinked without searching for the
+ * previous one, and bulk operations can link or unlink a whole chain of nodes at once (splice).
+ * <p>
+ * An index operation walks to a node from the nearest of three starting points: the head, the tail, or a cursor that
+ * remembers the last accessed node and its index. So access near the tail is as fast as near the head, and a loop
+ * over neighbouring indexes moves the cursor by one node per step instead of walking from the head every time.
+ *
+ * @param <T> generic type parameter
+ */
+public class DoublyLinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+    private Node<T> cursor; // the last accessed node, or null if a structural modification made it unknown
+    private int cursorIndex;
+
+    static class Node<T> {
+        T element;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> DoublyLinkedList<T> of(T... elements) {
+        DoublyLinkedList<T> list = new DoublyLinkedList<>();
+        list.addAll(0, elements);
+        return list;
+    }
+
+    @Override
+    public void add(T element) {
+        linkBefore(null, new Node<>(element));
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Node<T> node = new Node<>(element);
+        linkBefore(index == size ? null : node(index), node);
+        moveCursor(node, index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        node(index).element = element;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return node(index).element;
+    }
+
+    @Override
+    public T getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return head.element;
+    }
+
+    @Override
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Node<T> node = node(index);
+        unlink(node, node, 1);
+        moveCursor(node.next, index);
+        return node.element;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (Objects.equals(node.element, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        cursor = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Links a chain of new nodes and attaches it to the end of the list.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> node = new Node<>(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.prev = last;
+            }
+            last = node;
+            count++;
+        }
+        if (first != null) {
+            splice(null, first, last, count);
+        }
+    }
+
+    /**
+     * Links a chain of new nodes and inserts it finding the position only once.
+     *
+     * @param index    a position of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size + 1);
+        if (elements.length == 0) {
+            return;
+        }
+        Node<T> first = new Node<>(elements[0]);
+        Node<T> last = first;
+        for (int i = 1; i < elements.length; i++) {
+            Node<T> node = new Node<>(elements[i]);
+            last.next = node;
+            node.prev = last;
+            last = node;
+        }
+        splice(index == size ? null : node(index), first, last, elements.length);
+    }
+
+    /**
+     * Finds the first removed node and cuts the whole range out of the list at once.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<T> first = node(fromIndex);
+        Node<T> last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+        unlink(first, last, toIndex - fromIndex);
+    }
+
+    /**
+     * Removes matching elements in a single pass over the nodes.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (filter.test(node.element)) {
+                unlink(node, node, 1);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a fail-fast iterator that follows the links. It throws {@link ConcurrentModificationException} if the
+     * list is structurally modified after the iterator is created, except through {@link Iterator#remove()}.
+     * <p>
+     * The inherited {@link List#spliterator()} uses this iterator and splits by copying growing batches of elements to
+     * arrays, which is the way to split a list without index access.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator();
+    }
+
+    /**
+     * Finds a node by its index starting from the nearest of the head, the tail and the cursor, and moves the cursor
+     * to the found node.
+     */
+    Node<T> node(int index) {
+        Node<T> node;
+        int position;
+        if (index < size - 1 - index) {
+            node = head;
+            position = 0;
+        } else {
+            node = tail;
+            position = size - 1;
+        }
+        if (cursor != null && Math.abs(index - cursorIndex) < Math.abs(index - position)) {
+            node = cursor;
+            position = cursorIndex;
+        }
+        for (; position < index; position++) {
+            node = node.next;
+        }
+        for (; position > index; position--) {
+            node = node.prev;
+        }
+        moveCursor(node, index);
+        return node;
+    }
+
+    private void moveCursor(Node<T> node, int index) {
+        cursor = node;
+        cursorIndex = index;
+    }
+
+    private void linkBefore(Node<T> successor, Node<T> node) {
+        splice(successor, node, node, 1);
+    }
+
+    /**
+     * Inserts a chain of linked nodes before a successor, or at the end of the list if the successor is null.
+     */
+    private void splice(Node<T> successor, Node<T> first, Node<T> last, int count) {
+        Node<T> predecessor = successor == null ? tail : successor.prev;
+        first.prev = predecessor;
+        last.next = successor;
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += count;
+        cursor = null;
+        modCount++;
+    }
+
+    /**
+     * Cuts a chain of nodes out of the list. The removed nodes keep their links, so a traversal that stands on a
+     * removed node can still continue to its former successor.
+     */
+    private void unlink(Node<T> first, Node<T> last, int count) {
+        if (first.prev == null) {
+            head = last.next;
+        } else {
+            first.prev.next = last.next;
+        }
+        if (last.next == null) {
+            tail = first.prev;
+        } else {
+            last.next.prev = first.prev;
+        }
+        size -= count;
+        cursor = null;
+        modCount++;
+    }
+
+    private class NodeIterator implements Iterator<T> {
+        private Node<T> next = head;
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            unlink(lastReturned, lastReturned, 1);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
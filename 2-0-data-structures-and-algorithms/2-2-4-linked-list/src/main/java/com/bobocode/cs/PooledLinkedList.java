@@ -0,0 +1,279 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PooledLinkedList} is a doubly linked list whose nodes are not objects, but slots of three parallel arrays:
+ * {@code items}, {@code next} and {@code prev}. Links are slot indexes, and the slots of removed elements are kept in
+ * a free list (linked through the {@code next} array) and reused by following adds.
+ * <p>
+ * Once the arrays are big enough for the working set, adding and removing elements does not allocate anything, so a
+ * high-churn list (e.g. a queue that adds to the end and removes from the beginning) does not produce garbage.
+ * Neighbouring slots are also close in memory, unlike separately allocated nodes. The arrays grow by doubling and never
+ * shrink; {@link PooledLinkedList#clear()} keeps them too.
+ *
+ * @param <T> generic type parameter
+ */
+public class PooledLinkedList<T> implements List<T> {
+    static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;
+
+    private Object[] items;
+    private int[] next;
+    private int[] prev;
+    private int head = NIL;
+    private int tail = NIL;
+    private int free = NIL;
+    private int allocated; // slots below this index were used at least once, the rest are not in the free list yet
+    private int size;
+    private int modCount;
+
+    public PooledLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initCapacity the initial number of slots
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public PooledLinkedList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        items = new Object[initCapacity];
+        next = new int[initCapacity];
+        prev = new int[initCapacity];
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PooledLinkedList<T> of(T... elements) {
+        PooledLinkedList<T> list = new PooledLinkedList<>(Math.max(1, elements.length));
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public void add(T element) {
+        linkBefore(NIL, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        linkBefore(index == size ? NIL : slot(index), element);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        items[slot(index)] = element;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return itemAt(slot(index));
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return itemAt(head);
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return itemAt(tail);
+    }
+
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        return unlink(slot(index));
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (Objects.equals(items[slot], element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. The arrays are kept, so the list can be filled again without allocation.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, allocated, null);
+        head = tail = free = NIL;
+        allocated = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator. It throws {@link ConcurrentModificationException} if the list is structurally
+     * modified after the iterator is created, except through {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SlotIterator();
+    }
+
+    /**
+     * @return a number of slots in the arrays
+     */
+    int capacity() {
+        return items.length;
+    }
+
+    private int slot(int index) {
+        int slot;
+        if (index < size - 1 - index) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    private void linkBefore(int successor, T element) {
+        int slot = allocateSlot();
+        int predecessor = successor == NIL ? tail : prev[successor];
+        items[slot] = element;
+        prev[slot] = predecessor;
+        next[slot] = successor;
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            next[predecessor] = slot;
+        }
+        if (successor == NIL) {
+            tail = slot;
+        } else {
+            prev[successor] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    private T unlink(int slot) {
+        T element = itemAt(slot);
+        int predecessor = prev[slot];
+        int successor = next[slot];
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            next[predecessor] = successor;
+        }
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            prev[successor] = predecessor;
+        }
+        items[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    private int allocateSlot() {
+        if (free != NIL) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if (allocated == items.length) {
+            int newCapacity = items.length << 1;
+            items = Arrays.copyOf(items, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+        }
+        return allocated++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T itemAt(int slot) {
+        return (T) items[slot];
+    }
+
+    private class SlotIterator implements Iterator<T> {
+        private int nextSlot = head;
+        private int lastReturned = NIL;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (nextSlot == NIL) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            return itemAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            unlink(lastReturned);
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
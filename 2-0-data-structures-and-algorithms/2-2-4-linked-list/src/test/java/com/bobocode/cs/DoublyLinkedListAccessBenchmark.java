@@ -0,0 +1,86 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares index access of {@link DoublyLinkedList}, which walks from the nearest of the head, the
+ * tail and a cursor, with {@link java.util.LinkedList}, which walks from the nearest end only, on sequential, random
+ * and tail-heavy access patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DoublyLinkedListAccessBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private DoublyLinkedList<Integer> list;
+    private java.util.LinkedList<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            jdkList.add(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public long sequential() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public long sequentialJdk() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += jdkList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer random() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer randomJdk() {
+        return jdkList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer tailHeavy() {
+        return list.get(size - 1 - ThreadLocalRandom.current().nextInt(size / 10));
+    }
+
+    @Benchmark
+    public Integer tailHeavyJdk() {
+        return jdkList.get(size - 1 - ThreadLocalRandom.current().nextInt(size / 10));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DoublyLinkedListAccessBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares bulk operations of {@link DoublyLinkedList}, which find a position once and splice a
+ * whole chain of nodes, with loops of single-element operations that find a position for every element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DoublyLinkedListBulkBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private Integer[] batch;
+    private java.util.List<Integer> batchList;
+    private DoublyLinkedList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpBatch() {
+        batch = new Integer[batchSize];
+        Arrays.setAll(batch, i -> i);
+        batchList = Arrays.asList(batch);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = new DoublyLinkedList<>();
+        list.addAll(Arrays.asList(new Integer[size]));
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> addAllToEnd() {
+        list.addAll(batchList);
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> addToEndOneByOne() {
+        for (Integer element : batch) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> addAllToMiddle() {
+        list.addAll(size / 2, batch);
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> addToMiddleOneByOne() {
+        for (int i = 0; i < batch.length; i++) {
+            list.add(size / 2 + i, batch[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> removeRangeInMiddle() {
+        list.removeRange(size / 2, size / 2 + batchSize);
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> removeFromMiddleOneByOne() {
+        for (int i = 0; i < batchSize; i++) {
+            list.remove(size / 2);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DoublyLinkedListBulkBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
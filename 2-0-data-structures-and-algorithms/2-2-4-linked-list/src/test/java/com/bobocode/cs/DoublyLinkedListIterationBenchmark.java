@@ -0,0 +1,69 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares a full scan of a {@link DoublyLinkedList} using {@link List#get(int)}, which walks the
+ * links for every index, with its iterator and streams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DoublyLinkedListIterationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private DoublyLinkedList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sumByIndex() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumWithIterator() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumWithStream() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long sumWithParallelStream() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DoublyLinkedListIterationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,201 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("DoublyLinkedList Test")
+class DoublyLinkedListTest {
+
+    private List<Integer> list = new DoublyLinkedList<>();
+
+    private static void assertElements(List<Integer> list, Integer... expected) {
+        assertThat(list.size()).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(list.get(i)).isEqualTo(expected[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("add, set and remove keep both ends linked")
+    void singleElementOperations() {
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+        list.add(0, 0);
+        list.set(3, 30);
+
+        assertElements(list, 0, 1, 2, 30);
+        assertThat(list.remove(3)).isEqualTo(30);
+        assertThat(list.remove(0)).isEqualTo(0);
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(2);
+        assertThat(list.contains(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("empty list and invalid indexes are rejected")
+    void invalidAccess() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.removeRange(0, 1));
+    }
+
+    @Test
+    @DisplayName("addAll splices elements to the end and into the middle")
+    void addAll() {
+        list.addAll(java.util.List.of(1, 2, 5));
+        list.addAll(2, new Integer[]{3, 4});
+        list.addAll(0, new Integer[]{0});
+        list.addAll(java.util.List.of());
+
+        assertElements(list, 0, 1, 2, 3, 4, 5);
+        assertThat(list.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("removeRange cuts out a range including the ends")
+    void removeRange() {
+        list = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        list.removeRange(1, 3);
+        assertElements(list, 0, 3, 4, 5);
+        list.removeRange(2, 4);
+        assertElements(list, 0, 3);
+        list.removeRange(0, 2);
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("removeIf removes matching elements in one pass")
+    void removeIf() {
+        list = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        assertThat(list.removeIf(element -> element % 2 == 0)).isTrue();
+        assertThat(list.removeIf(element -> element > 10)).isFalse();
+        assertElements(list, 1, 3, 5);
+    }
+
+    @Test
+    @DisplayName("subList is a view that changes the list")
+    void subList() {
+        list = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = list.subList(1, 4);
+        assertElements(subList, 1, 2, 3);
+        subList.add(10);
+        subList.remove(0);
+        subList.subList(0, 1).clear();
+
+        assertElements(subList, 3, 10);
+        assertElements(list, 0, 3, 10, 4, 5);
+    }
+
+    @Test
+    @DisplayName("iterator follows the links and removes the last returned element")
+    void iterator() {
+        list = DoublyLinkedList.of(0, 1, 2, 3);
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertElements(list, 0, 2);
+        assertThatIllegalStateException().isThrownBy(iterator::remove);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @DisplayName("iterator fails fast after a structural modification")
+    void iteratorFailsFast() {
+        list = DoublyLinkedList.of(0, 1, 2);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> {
+            for (Integer element : list) {
+                list.add(element);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("sequential and parallel streams see all the elements")
+    void streams() {
+        list.addAll(IntStream.range(0, 10_000).boxed().toList());
+
+        assertThat(list.stream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(list.stream().skip(9_998).toList()).containsExactly(9_998, 9_999);
+    }
+
+    @Test
+    @DisplayName("index access stays correct while the cursor moves between modifications")
+    void indexAccessWithCursor() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            int index = random.nextInt(expected.size());
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    list.add(index, -i);
+                    expected.add(index, -i);
+                }
+                case 1 -> assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                case 2 -> {
+                    list.set(index, i);
+                    expected.set(index, i);
+                }
+                default -> {
+                    for (int j = index; j < Math.min(index + 5, expected.size()); j++) {
+                        assertThat(list.get(j)).isEqualTo(expected.get(j));
+                    }
+                }
+            }
+        }
+
+        assertElements(list, expected.toArray(new Integer[0]));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.LinkedList")
+    void randomOperations() {
+        java.util.List<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.addAll(index, new Integer[]{i, -i});
+                expected.addAll(index, java.util.List.of(i, -i));
+            } else if (operation == 2) {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                list.removeRange(from, to);
+                expected.subList(from, to).clear();
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+
+        assertElements(list, expected.toArray(new Integer[0]));
+    }
+}
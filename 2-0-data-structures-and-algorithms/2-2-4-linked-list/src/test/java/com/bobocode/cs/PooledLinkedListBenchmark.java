@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that uses linked lists as high-churn queues: every invocation adds an element to the end and removes
+ * one from the beginning. Look at the "gc.alloc.rate.norm" metric reported by the GC profiler: a
+ * {@link PooledLinkedList} reuses its slots and allocates nothing, while {@link DoublyLinkedList} and
+ * {@link java.util.LinkedList} allocate a node per add.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PooledLinkedListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private PooledLinkedList<Integer> pooledList;
+    private DoublyLinkedList<Integer> doublyLinkedList;
+    private java.util.LinkedList<Integer> jdkList;
+    private Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pooledList = new PooledLinkedList<>();
+        doublyLinkedList = new DoublyLinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            pooledList.add(element);
+            doublyLinkedList.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    @Benchmark
+    public Integer pooledList() {
+        pooledList.add(element);
+        return pooledList.remove(0);
+    }
+
+    @Benchmark
+    public Integer doublyLinkedList() {
+        doublyLinkedList.add(element);
+        return doublyLinkedList.remove(0);
+    }
+
+    @Benchmark
+    public Integer jdkLinkedList() {
+        jdkList.add(element);
+        return jdkList.remove(0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PooledLinkedListBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
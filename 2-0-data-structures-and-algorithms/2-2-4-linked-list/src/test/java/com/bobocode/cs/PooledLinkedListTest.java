@@ -0,0 +1,116 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("PooledLinkedList Test")
+class PooledLinkedListTest {
+
+    private PooledLinkedList<Integer> list = new PooledLinkedList<>(4);
+
+    @Test
+    @DisplayName("add, get, set and remove work on both ends and in the middle")
+    void singleElementOperations() {
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+        list.add(0, 0);
+        list.set(3, 30);
+
+        assertThat(list.get(3)).isEqualTo(30);
+        assertThat(list.remove(3)).isEqualTo(30);
+        assertThat(list.remove(0)).isEqualTo(0);
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(2);
+        assertThat(list.contains(2)).isTrue();
+        assertThat(list.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("removed slots are reused, so a queue-like churn does not grow the arrays")
+    void slotsAreReused() {
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        for (int i = 4; i < 10_000; i++) {
+            assertThat(list.remove(0)).isEqualTo(i - 4);
+            list.add(i);
+        }
+
+        assertThat(list.capacity()).isEqualTo(4);
+        list.add(10_000);
+        assertThat(list.capacity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("clear keeps the arrays")
+    void clear() {
+        list = PooledLinkedList.of(0, 1, 2, 3, 4);
+        int capacity = list.capacity();
+
+        list.clear();
+        list.add(5);
+
+        assertThat(list.capacity()).isEqualTo(capacity);
+        assertThat(list.getFirst()).isEqualTo(5);
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("iterator removes elements and fails fast after other modifications")
+    void iterator() {
+        list = PooledLinkedList.of(0, 1, 2, 3);
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertThat(list.stream().toList()).containsExactly(1, 3);
+
+        Iterator<Integer> failingIterator = list.iterator();
+        list.add(5);
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(failingIterator::next);
+    }
+
+    @Test
+    @DisplayName("invalid arguments are rejected")
+    void invalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PooledLinkedList<>(0));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getLast());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(0));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.LinkedList")
+    void randomOperations() {
+        java.util.List<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+
+        assertThat(list.stream().toList()).isEqualTo(expected);
+    }
+}
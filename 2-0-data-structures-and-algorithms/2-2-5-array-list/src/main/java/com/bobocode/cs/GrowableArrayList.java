@@ -0,0 +1,421 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@link GrowableArrayList} is an implementation of {@link List} interface based on an array, just like
+ * {@link ArrayList}, that lets a caller control how the array grows. A {@link GrowthPolicy} calculates a new capacity,
+ * {@link GrowableArrayList#ensureCapacity(int)} and {@link GrowableArrayList#trimToSize()} change it explicitly, and
+ * {@link GrowableArrayList#resizeStats()} reports how many times the array was copied.
+ *
+ * @param <T> generic type parameter
+ */
+public class GrowableArrayList<T> implements List<T> {
+    static final int DEFAULT_CAPACITY = 5;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] elements;
+    private int size;
+    private int resizeCount;
+    private long copiedElements;
+    private int modCount;
+
+    public GrowableArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GrowableArrayList(int initCapacity) {
+        this(initCapacity, GrowthPolicy.ONE_AND_A_HALF);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the list
+     * @param growthPolicy a policy that calculates a new capacity when the array is full
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public GrowableArrayList(int initCapacity, GrowthPolicy growthPolicy) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        elements = new Object[initCapacity];
+    }
+
+    /**
+     * Creates and returns an instance of {@link GrowableArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> GrowableArrayList<T> of(T... elements) {
+        GrowableArrayList<T> list = new GrowableArrayList<>(Math.max(1, elements.length));
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    @Override
+    public void add(T element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(index);
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(size - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T element = elementAt(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Adds all the elements with a single array copy.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] array = elements.toArray();
+        if (size + array.length > this.elements.length) {
+            grow(size + array.length);
+        }
+        System.arraycopy(array, 0, this.elements, size, array.length);
+        size += array.length;
+        modCount++;
+    }
+
+    /**
+     * Inserts all the elements shifting the tail of the array only once.
+     *
+     * @param index    a position of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size + 1);
+        if (size + elements.length > this.elements.length) {
+            grow(size + elements.length);
+        }
+        System.arraycopy(this.elements, index, this.elements, index + elements.length, size - index);
+        System.arraycopy(elements, 0, this.elements, index, elements.length);
+        size += elements.length;
+        modCount++;
+    }
+
+    /**
+     * Removes a range of elements shifting the tail of the array only once.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes matching elements in a single pass, moving every kept element at most once.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T element = elementAt(i);
+            if (!filter.test(element)) {
+                elements[kept++] = element;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns a fail-fast iterator. It throws {@link ConcurrentModificationException} if the list is structurally
+     * modified after the iterator is created, except through {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator();
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator that splits the array into halves. It reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, so parallel streams divide the work evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Grows the array, so it can hold at least a given number of elements without another resize. Unlike a regular
+     * growth, the new capacity is exactly the requested one.
+     *
+     * @param minCapacity a required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the array to the current number of elements (but not less than one element).
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(1, size);
+        if (newCapacity < elements.length) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * @return a length of the backing array
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * @return resize metrics collected since the list was created
+     */
+    public ResizeStats resizeStats() {
+        return new ResizeStats(resizeCount, copiedElements);
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        int newCapacity = growthPolicy.newCapacity(elements.length, minCapacity);
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) { // an overflow
+            newCapacity = MAX_CAPACITY;
+        }
+        resize(Math.max(newCapacity, minCapacity));
+    }
+
+    private void resize(int newCapacity) {
+        elements = Arrays.copyOf(elements, newCapacity);
+        resizeCount++;
+        copiedElements += size;
+    }
+
+    private T elementAt(int index) {
+        return cast(elements[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+
+    private class ArrayIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            GrowableArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArraySpliterator implements Spliterator<T> {
+        private int index;
+        private int fence; // -1 until the first use, so the size is read when traversal starts
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            T element = elementAt(index++);
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] array = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept(GrowableArrayList.<T>cast(array[i]));
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
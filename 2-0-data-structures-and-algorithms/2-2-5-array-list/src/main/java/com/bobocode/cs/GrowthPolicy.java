@@ -0,0 +1,73 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthPolicy} decides how much a backing array of {@link GrowableArrayList} grows when it is full. A bigger
+ * growth means fewer resizes and copies, but more unused memory.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * An estimated size of an array element in bytes. It is a size of a compressed reference, which is the default
+     * for heaps smaller than 32 GB.
+     */
+    int REFERENCE_SIZE = 4;
+    /**
+     * An estimated size of an array header in bytes (mark word, compressed class pointer and length).
+     */
+    int ARRAY_HEADER_SIZE = 16;
+    int HUGE_PAGE_SIZE = 2 * 1024 * 1024;
+
+    /**
+     * Grows an array by half of its capacity, like {@link java.util.ArrayList}.
+     */
+    GrowthPolicy ONE_AND_A_HALF = (capacity, minCapacity) -> capacity + (capacity >> 1);
+
+    /**
+     * Doubles an array.
+     */
+    GrowthPolicy DOUBLE = (capacity, minCapacity) -> capacity << 1;
+
+    /**
+     * Grows an array by a fixed number of elements. It wastes little memory, but makes adding n elements O(n^2).
+     *
+     * @param increment a number of elements
+     * @return a growth policy
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment should be positive");
+        }
+        return (capacity, minCapacity) -> capacity + increment;
+    }
+
+    /**
+     * Grows an array by half of its capacity, and once it takes more than a {@link GrowthPolicy#HUGE_PAGE_SIZE}, rounds
+     * the capacity up, so the array, including its header, takes a whole number of huge pages. When the JVM uses huge
+     * pages for the heap (e.g. {@code -XX:+UseTransparentHugePages}), a big array does not share its last page with
+     * other objects.
+     *
+     * @return a growth policy
+     */
+    static GrowthPolicy hugePageAligned() {
+        return (capacity, minCapacity) -> {
+            long newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+            long bytes = ARRAY_HEADER_SIZE + newCapacity * REFERENCE_SIZE;
+            if (bytes <= HUGE_PAGE_SIZE) {
+                return (int) newCapacity;
+            }
+            long pages = (bytes + HUGE_PAGE_SIZE - 1) / HUGE_PAGE_SIZE;
+            long aligned = (pages * HUGE_PAGE_SIZE - ARRAY_HEADER_SIZE) / REFERENCE_SIZE;
+            return (int) Math.min(aligned, Integer.MAX_VALUE - 8);
+        };
+    }
+
+    /**
+     * Calculates a new capacity of a full array. A list always uses at least a min capacity, even if a policy returns
+     * a smaller value.
+     *
+     * @param capacity    a current capacity
+     * @param minCapacity a capacity that is required for the current operation
+     * @return a new capacity
+     */
+    int newCapacity(int capacity, int minCapacity);
+}
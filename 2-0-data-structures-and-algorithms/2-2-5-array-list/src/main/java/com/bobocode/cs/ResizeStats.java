@@ -0,0 +1,18 @@
+package com.bobocode.cs;
+
+/**
+ * {@link ResizeStats} is a snapshot of the resize metrics of a {@link GrowableArrayList}. It helps to choose an initial
+ * capacity and a {@link GrowthPolicy} for a workload.
+ *
+ * @param resizeCount    a number of times a backing array was replaced by a new one
+ * @param copiedElements a total number of elements copied to new arrays
+ */
+public record ResizeStats(int resizeCount, long copiedElements) {
+
+    /**
+     * @return an estimated number of copied bytes, see {@link GrowthPolicy#REFERENCE_SIZE}
+     */
+    public long copiedBytes() {
+        return copiedElements * GrowthPolicy.REFERENCE_SIZE;
+    }
+}
@@ -0,0 +1,444 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link TieredList} is an implementation of {@link List} interface that keeps elements in blocks of a fixed capacity
+ * instead of one big array. Every block is a circular buffer, and all the blocks except the last one are always full.
+ * So an element is still found by its index in constant time: {@code index / blockCapacity} is a block, and
+ * {@code index % blockCapacity} is a position inside it.
+ * <p>
+ * {@link ArrayList} shifts the whole tail of the array on {@link List#add(int, Object)} and {@link List#remove(int)}.
+ * A tiered list shifts elements only inside one block, and then moves a single element between each pair of the
+ * following blocks, which is O(1) for circular buffers. It makes a middle insert or removal O(B + n / B), where B is a
+ * block capacity. That is O(sqrt(n)) for lists of about B * B elements, e.g. one million elements with the default
+ * capacity of 1024.
+ *
+ * @param <T> generic type parameter
+ */
+public class TieredList<T> implements List<T> {
+    static final int DEFAULT_BLOCK_CAPACITY = 1024;
+
+    private final int blockShift;
+    private final int blockMask;
+    private Block[] blocks = new Block[4];
+    private int blockCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * A circular buffer of elements.
+     */
+    private static class Block {
+        final Object[] elements;
+        int head;
+        int size;
+
+        Block(int capacity) {
+            elements = new Object[capacity];
+        }
+
+        boolean isFull() {
+            return size == elements.length;
+        }
+
+        int position(int offset) {
+            return (head + offset) & (elements.length - 1);
+        }
+
+        Object get(int offset) {
+            return elements[position(offset)];
+        }
+
+        void set(int offset, Object element) {
+            elements[position(offset)] = element;
+        }
+
+        void addFirst(Object element) {
+            head = (head - 1) & (elements.length - 1);
+            elements[head] = element;
+            size++;
+        }
+
+        void addLast(Object element) {
+            elements[position(size++)] = element;
+        }
+
+        Object removeFirst() {
+            Object element = elements[head];
+            elements[head] = null;
+            head = position(1);
+            size--;
+            return element;
+        }
+
+        Object removeLast() {
+            int last = position(--size);
+            Object element = elements[last];
+            elements[last] = null;
+            return element;
+        }
+
+        /**
+         * Inserts an element shifting either the elements before the offset or after it, whichever part is smaller.
+         */
+        void insert(int offset, Object element) {
+            if (offset < size / 2) {
+                head = (head - 1) & (elements.length - 1);
+                for (int i = 0; i < offset; i++) {
+                    set(i, get(i + 1));
+                }
+            } else {
+                for (int i = size; i > offset; i--) {
+                    set(i, get(i - 1));
+                }
+            }
+            set(offset, element);
+            size++;
+        }
+
+        /**
+         * Removes an element shifting either the elements before the offset or after it, whichever part is smaller.
+         */
+        Object remove(int offset) {
+            Object element = get(offset);
+            if (offset < size / 2) {
+                for (int i = offset; i > 0; i--) {
+                    set(i, get(i - 1));
+                }
+                removeFirst();
+            } else {
+                for (int i = offset; i < size - 1; i++) {
+                    set(i, get(i + 1));
+                }
+                removeLast();
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Creates a list with blocks of {@link TieredList#DEFAULT_BLOCK_CAPACITY} elements.
+     */
+    public TieredList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Creates a list with blocks of a given capacity.
+     *
+     * @param blockCapacity a number of elements in one block
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public TieredList(int blockCapacity) {
+        if (blockCapacity <= 0 || Integer.bitCount(blockCapacity) != 1) {
+            throw new IllegalArgumentException("Block capacity should be a positive power of two");
+        }
+        blockShift = Integer.numberOfTrailingZeros(blockCapacity);
+        blockMask = blockCapacity - 1;
+    }
+
+    /**
+     * Creates and returns an instance of {@link TieredList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> TieredList<T> of(T... elements) {
+        TieredList<T> list = new TieredList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public void add(T element) {
+        if (blockCount == 0 || blocks[blockCount - 1].isFull()) {
+            appendBlock();
+        }
+        blocks[blockCount - 1].addLast(element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. It shifts the elements of one block and moves one element
+     * per each following block. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        if (blocks[blockCount - 1].isFull()) {
+            appendBlock();
+        }
+        int blockIndex = index >>> blockShift;
+        Object carried = element;
+        Block block = blocks[blockIndex];
+        if (block.isFull()) {
+            Object last = block.removeLast();
+            block.insert(index & blockMask, carried);
+            carried = last;
+            for (int i = blockIndex + 1; i < blockCount; i++) {
+                block = blocks[i];
+                if (!block.isFull()) {
+                    block.addFirst(carried);
+                    break;
+                }
+                last = block.removeLast();
+                block.addFirst(carried);
+                carried = last;
+            }
+        } else {
+            block.insert(index & blockMask, carried);
+        }
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        blocks[index >>> blockShift].set(index & blockMask, element);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(index);
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Removes an element by its position index. It shifts the elements of one block and moves one element per each
+     * following block. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        int blockIndex = index >>> blockShift;
+        Object removed = blocks[blockIndex].remove(index & blockMask);
+        for (int i = blockIndex + 1; i < blockCount; i++) {
+            blocks[i - 1].addLast(blocks[i].removeFirst());
+        }
+        if (blocks[blockCount - 1].size == 0) {
+            blocks[--blockCount] = null;
+        }
+        size--;
+        modCount++;
+        return elementOf(removed);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < blockCount; i++) {
+            Block block = blocks[i];
+            for (int j = 0; j < block.size; j++) {
+                if (Objects.equals(block.get(j), element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        blocks = new Block[4];
+        blockCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator. It throws {@link ConcurrentModificationException} if the list is structurally
+     * modified after the iterator is created, except through {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new TieredIterator();
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator that splits the index range into halves. It reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, so parallel streams divide the work evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TieredSpliterator(0, -1, 0);
+    }
+
+    private void appendBlock() {
+        if (blockCount == blocks.length) {
+            Block[] newBlocks = new Block[blocks.length << 1];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            blocks = newBlocks;
+        }
+        blocks[blockCount++] = new Block(blockMask + 1);
+    }
+
+    private T elementAt(int index) {
+        return elementOf(blocks[index >>> blockShift].get(index & blockMask));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementOf(Object element) {
+        return (T) element;
+    }
+
+    private class TieredIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            TieredList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class TieredSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence; // -1 until the first use, so the size is read when traversal starts
+        private int expectedModCount;
+
+        TieredSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new TieredSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            T element = elementAt(index++);
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            // blocks may be dropped by a modification, so it is checked before the next element is read
+            for (int i = index; i < hi; i++) {
+                action.accept(elementAt(i));
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+            index = hi;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares bulk operations of {@link GrowableArrayList}, which move the tail of the array once,
+ * with loops of single-element operations that shift it for every element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class GrowableArrayListBulkBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private Integer[] elements;
+    private java.util.List<Integer> elementList;
+    private Integer[] batch;
+    private GrowableArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpElements() {
+        elements = new Integer[size];
+        Arrays.setAll(elements, i -> i);
+        elementList = Arrays.asList(elements);
+        batch = Arrays.copyOf(elements, batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = new GrowableArrayList<>();
+        list.addAll(elementList);
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> loadWithAddAll() {
+        GrowableArrayList<Integer> newList = new GrowableArrayList<>();
+        newList.addAll(elementList);
+        return newList;
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> loadOneByOne() {
+        GrowableArrayList<Integer> newList = new GrowableArrayList<>();
+        for (Integer element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> addAllToMiddle() {
+        list.addAll(size / 2, batch);
+        return list;
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> addToMiddleOneByOne() {
+        for (int i = 0; i < batch.length; i++) {
+            list.add(size / 2 + i, batch[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> removeRangeInMiddle() {
+        list.removeRange(size / 2, size / 2 + batchSize);
+        return list;
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> removeFromMiddleOneByOne() {
+        for (int i = 0; i < batchSize; i++) {
+            list.remove(size / 2);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean removeIfEveryOther() {
+        return list.removeIf(element -> (element & 1) == 0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GrowableArrayListBulkBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
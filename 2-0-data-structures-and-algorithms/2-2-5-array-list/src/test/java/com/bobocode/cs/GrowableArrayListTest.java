@@ -0,0 +1,232 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("GrowableArrayList Test")
+class GrowableArrayListTest {
+
+    @Test
+    @DisplayName("default policy grows the array by half")
+    void defaultGrowth() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(4);
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.capacity()).isEqualTo(6);
+        assertThat(list.resizeStats()).isEqualTo(new ResizeStats(1, 4));
+    }
+
+    @Test
+    @DisplayName("doubling policy doubles the array")
+    void doubleGrowth() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(4, GrowthPolicy.DOUBLE);
+        for (int i = 0; i < 9; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.capacity()).isEqualTo(16);
+        assertThat(list.resizeStats().resizeCount()).isEqualTo(2);
+        assertThat(list.resizeStats().copiedElements()).isEqualTo(4 + 8);
+        assertThat(list.resizeStats().copiedBytes()).isEqualTo(12 * GrowthPolicy.REFERENCE_SIZE);
+    }
+
+    @Test
+    @DisplayName("fixed increment policy adds the same number of slots")
+    void fixedIncrementGrowth() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(1, GrowthPolicy.fixedIncrement(3));
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.capacity()).isEqualTo(10);
+        assertThat(list.resizeStats().resizeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("huge page aligned policy rounds big arrays and their headers up to whole huge pages")
+    void hugePageAlignedGrowth() {
+        GrowthPolicy policy = GrowthPolicy.hugePageAligned();
+        int elementsPerPage = GrowthPolicy.HUGE_PAGE_SIZE / GrowthPolicy.REFERENCE_SIZE;
+
+        assertThat(policy.newCapacity(10, 11)).isEqualTo(15);
+        int capacity = policy.newCapacity(elementsPerPage, elementsPerPage + 1);
+        assertThat(arrayBytes(capacity)).isEqualTo(2L * GrowthPolicy.HUGE_PAGE_SIZE);
+        capacity = policy.newCapacity(capacity, capacity + 1);
+        assertThat(arrayBytes(capacity)).isEqualTo(3L * GrowthPolicy.HUGE_PAGE_SIZE);
+        capacity = policy.newCapacity(capacity, 5 * elementsPerPage);
+        assertThat(capacity).isGreaterThanOrEqualTo(5 * elementsPerPage);
+        assertThat(arrayBytes(capacity)).isEqualTo(6L * GrowthPolicy.HUGE_PAGE_SIZE);
+    }
+
+    private static long arrayBytes(int capacity) {
+        return GrowthPolicy.ARRAY_HEADER_SIZE + (long) capacity * GrowthPolicy.REFERENCE_SIZE;
+    }
+
+    @Test
+    @DisplayName("a policy result smaller than required is ignored")
+    void policyResultIsAtLeastMinCapacity() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(2, (capacity, minCapacity) -> capacity);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertThat(list.capacity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ensureCapacity and trimToSize resize the array exactly")
+    void ensureCapacityAndTrimToSize() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>();
+        list.ensureCapacity(100);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.capacity()).isEqualTo(100);
+        assertThat(list.resizeStats().resizeCount()).isEqualTo(1);
+        list.remove(0);
+        list.trimToSize();
+        assertThat(list.capacity()).isEqualTo(99);
+        assertThat(list.get(98)).isEqualTo(99);
+        assertThat(list.resizeStats().resizeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalid arguments are rejected")
+    void invalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GrowableArrayList<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.fixedIncrement(0));
+        GrowableArrayList<Integer> list = new GrowableArrayList<>();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(0, 1));
+    }
+
+    @Test
+    @DisplayName("addAll copies a collection and an array in one step")
+    void addAll() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(2);
+        list.addAll(java.util.List.of(1, 2, 5));
+        list.addAll(2, new Integer[]{3, 4});
+
+        assertThat(list.size()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(list.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("removeRange and removeIf compact the array")
+    void removeRangeAndRemoveIf() {
+        GrowableArrayList<Integer> list = GrowableArrayList.of(0, 1, 2, 3, 4, 5, 6, 7);
+
+        list.removeRange(1, 3);
+        assertThat(list.removeIf(element -> element % 2 == 0)).isTrue();
+        assertThat(list.removeIf(element -> element > 10)).isFalse();
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(3);
+        assertThat(list.get(1)).isEqualTo(5);
+        assertThat(list.get(2)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("subList is a view that changes the list")
+    void subList() {
+        GrowableArrayList<Integer> list = GrowableArrayList.of(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = list.subList(2, 5);
+        subList.set(0, 20);
+        subList.addAll(java.util.List.of(7, 8));
+        subList.removeRange(1, 2);
+
+        assertThat(subList.size()).isEqualTo(4);
+        assertThat(subList.getLast()).isEqualTo(8);
+        assertThat(list.size()).isEqualTo(7);
+        assertThat(list.get(2)).isEqualTo(20);
+        assertThat(list.get(3)).isEqualTo(4);
+        assertThat(list.get(5)).isEqualTo(8);
+        assertThat(list.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("iterator removes the last returned element and fails fast after other modifications")
+    void iterator() {
+        GrowableArrayList<Integer> list = GrowableArrayList.of(0, 1, 2, 3);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(1);
+        list.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @DisplayName("spliterator is sized and splits into halves")
+    void spliterator() {
+        GrowableArrayList<Integer> list = GrowableArrayList.of(0, 1, 2, 3, 4, 5, 6, 7);
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(4);
+        assertThat(spliterator.estimateSize()).isEqualTo(4);
+        assertThat(prefix.tryAdvance(element -> assertThat(element).isEqualTo(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("sequential and parallel streams see all the elements")
+    void streams() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>();
+        list.addAll(IntStream.range(0, 100_000).boxed().toList());
+
+        assertThat(list.stream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(list.parallelStream().filter(element -> element % 10_000 == 0).toList())
+                .containsExactly(0, 10_000, 20_000, 30_000, 40_000, 50_000, 60_000, 70_000, 80_000, 90_000);
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.ArrayList")
+    void randomOperations() {
+        GrowableArrayList<Integer> list = GrowableArrayList.of(-1, -2);
+        java.util.List<Integer> expected = new java.util.ArrayList<>(java.util.List.of(-1, -2));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThat(list.contains(expected.get(0))).isTrue();
+    }
+}
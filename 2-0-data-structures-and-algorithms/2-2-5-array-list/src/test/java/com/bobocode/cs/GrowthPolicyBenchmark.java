@@ -0,0 +1,62 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that fills a {@link GrowableArrayList} using different {@link GrowthPolicy}s, and with a capacity
+ * ensured upfront. Look at the "gc.alloc.rate.norm" metric reported by the GC profiler: it shows how much memory is
+ * spent on intermediate arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class GrowthPolicyBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"one-and-a-half", "double", "fixed-increment", "huge-page-aligned", "ensure-capacity"})
+    private String policy;
+
+    private GrowthPolicy growthPolicy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        growthPolicy = switch (policy) {
+            case "double" -> GrowthPolicy.DOUBLE;
+            case "fixed-increment" -> GrowthPolicy.fixedIncrement(size / 16);
+            case "huge-page-aligned" -> GrowthPolicy.hugePageAligned();
+            default -> GrowthPolicy.ONE_AND_A_HALF;
+        };
+    }
+
+    @Benchmark
+    public GrowableArrayList<Integer> fill() {
+        GrowableArrayList<Integer> list = new GrowableArrayList<>(GrowableArrayList.DEFAULT_CAPACITY, growthPolicy);
+        if (policy.equals("ensure-capacity")) {
+            list.ensureCapacity(size);
+        }
+        Integer element = 42;
+        for (int i = 0; i < size; i++) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GrowthPolicyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares inserts and removals at different positions in a {@link TieredList},
+ * {@link java.util.ArrayList} and {@link java.util.LinkedList}. Every invocation inserts an element and removes it, so
+ * the size of a list stays the same. JDK lists are used as baselines, because they use the same algorithms as the
+ * {@link ArrayList} and {@code LinkedList} exercises.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class TieredListBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"0.0", "0.5", "0.9"})
+    private double position;
+
+    private int index;
+    private TieredList<Integer> tieredList;
+    private java.util.ArrayList<Integer> arrayList;
+    private java.util.LinkedList<Integer> linkedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = (int) (size * position);
+        tieredList = new TieredList<>();
+        arrayList = new java.util.ArrayList<>();
+        linkedList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            tieredList.add(i);
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer tieredList() {
+        tieredList.add(index, -1);
+        return tieredList.remove(index);
+    }
+
+    @Benchmark
+    public Integer arrayList() {
+        arrayList.add(index, -1);
+        return arrayList.remove(index);
+    }
+
+    @Benchmark
+    public Integer linkedList() {
+        linkedList.add(index, -1);
+        return linkedList.remove(index);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TieredListBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
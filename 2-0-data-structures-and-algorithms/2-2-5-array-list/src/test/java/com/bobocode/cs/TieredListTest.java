@@ -0,0 +1,194 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("TieredList Test")
+class TieredListTest {
+
+    private List<Integer> list = new TieredList<>(4);
+
+    @Test
+    @DisplayName("add appends elements that span several blocks")
+    void add() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(10);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(9);
+        assertThat(list.get(5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("add by index moves elements through full blocks")
+    void addByIndex() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        list.add(1, 100);
+        list.add(0, 200);
+        list.add(10, 300);
+
+        assertThat(list.size()).isEqualTo(11);
+        int[] expected = {200, 0, 100, 1, 2, 3, 4, 5, 6, 7, 300};
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(list.get(i)).isEqualTo(expected[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("remove by index moves elements back and drops an empty last block")
+    void removeByIndex() {
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.remove(1)).isEqualTo(1);
+        assertThat(list.remove(3)).isEqualTo(4);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(0);
+        assertThat(list.get(1)).isEqualTo(2);
+        assertThat(list.get(2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("set, contains and clear work across blocks")
+    void setContainsClear() {
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+
+        list.set(5, 50);
+
+        assertThat(list.contains(50)).isTrue();
+        assertThat(list.contains(5)).isFalse();
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalid indexes and empty lists are rejected")
+    void invalidAccess() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(1, 1));
+        list.add(1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(-1));
+    }
+
+    @Test
+    @DisplayName("block capacity should be a power of two")
+    void invalidBlockCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TieredList<>(6));
+    }
+
+    @Test
+    @DisplayName("iterator removes the last returned element and fails fast after other modifications")
+    void iterator() {
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(1);
+        list.add(1, 100);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @DisplayName("spliterator is sized, splits into halves and fails fast after modifications")
+    void spliterator() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(5);
+        assertThat(spliterator.estimateSize()).isEqualTo(5);
+        assertThat(prefix.tryAdvance(element -> assertThat(element).isEqualTo(0))).isTrue();
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.forEachRemaining(element -> list.clear()));
+    }
+
+    @Test
+    @DisplayName("sequential and parallel streams see all the elements")
+    void streams() {
+        list.addAll(IntStream.range(0, 100_000).boxed().toList());
+
+        assertThat(list.stream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(list.parallelStream().filter(element -> element % 10_000 == 0).toList())
+                .containsExactly(0, 10_000, 20_000, 30_000, 40_000, 50_000, 60_000, 70_000, 80_000, 90_000);
+    }
+
+    @Test
+    @DisplayName("sub list iterator and spliterator fail fast after the parent list is modified")
+    void subListIteration() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        List<Integer> subList = list.subList(2, 8);
+
+        Iterator<Integer> iterator = subList.iterator();
+        assertThat(iterator.next()).isEqualTo(2);
+        iterator.remove();
+        assertThat(list.get(2)).isEqualTo(3);
+        Spliterator<Integer> spliterator = subList.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.trySplit().estimateSize()).isEqualTo(2);
+        assertThat(subList.stream().toList()).containsExactly(3, 4, 5, 6, 7);
+        list.add(0, 100);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.tryAdvance(element -> assertThat(element).isNotNull()));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.ArrayList")
+    void randomOperations() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlTree} is a {@link BalancedBinarySearchTree} that keeps heights of the two subtrees of every node within
+ * one of each other. Every node stores the height of its subtree. After an insertion, nodes on the path back to the
+ * root update their heights, and a node whose subtrees differ by two is fixed with a single or a double rotation.
+ * <p>
+ * An AVL tree is at most about 1.44 log n deep, which makes lookups a bit faster than in a red-black tree at the cost
+ * of more rotations on insertion.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlTree<T extends Comparable<T>> implements BalancedBinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+    private long rotationCount;
+
+    private static class Node<T> {
+        final T element;
+        Node<T> left;
+        Node<T> right;
+        int height;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlTree<T> of(T... elements) {
+        AvlTree<T> tree = new AvlTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int oldSize = size;
+        root = insert(root, element);
+        return size > oldSize;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        updateHeight(node);
+        updateHeight(right);
+        rotationCount++;
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        updateHeight(node);
+        updateHeight(left);
+        rotationCount++;
+        return left;
+    }
+
+    private void updateHeight(Node<T> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+    }
+
+    private int height(Node<T> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height that is stored in the root, so it works in constant time.
+     */
+    @Override
+    public int depth() {
+        return root == null ? 0 : root.height;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public long rotationCount() {
+        return rotationCount;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bobocode.cs;
+
+/**
+ * {@link BalancedBinarySearchTree} is a {@link BinarySearchTree} that rebalances itself using rotations, so its depth
+ * stays O(log n) for any insertion order, including sorted input that turns an ordinary tree into a linked list.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public interface BalancedBinarySearchTree<T extends Comparable<T>> extends BinarySearchTree<T> {
+    /**
+     * @return a number of single rotations made since the tree was created (a double rotation counts as two)
+     */
+    long rotationCount();
+}
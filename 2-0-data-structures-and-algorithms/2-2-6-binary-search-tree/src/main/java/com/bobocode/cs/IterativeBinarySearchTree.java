@@ -0,0 +1,171 @@
+package com.bobocode.cs;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link IterativeBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on linked nodes
+ * and loops instead of recursion. It is not balanced, so sorted input still makes it as deep as its size, but no
+ * operation uses the call stack, so a deep tree never causes a {@link StackOverflowError}.
+ * <p>
+ * {@link IterativeBinarySearchTree#inOrderTraversal(Consumer)} uses Morris traversal, which needs no stack at all.
+ * Before descending into a left subtree, it links the rightmost node of the subtree back to the current node, so the
+ * traversal can return without remembering the path. Every temporary link is removed on the second visit, so the tree
+ * is the same after the traversal. If the consumer throws an exception or an error, the traversal still walks the rest
+ * of the tree (without calling the consumer) to remove the links, and then rethrows it.
+ * <p>
+ * While the traversal runs, the tree contains cycles. The consumer must not call back into the tree, and the tree must
+ * not be read by other threads during the traversal, because any other operation may follow a temporary link and loop
+ * forever or return a wrong result.
+ * <p>
+ * {@link IterativeBinarySearchTree#depth()} counts levels of a breadth-first traversal, which keeps a single level of
+ * nodes in a queue.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class IterativeBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    private static class Node<T> {
+        final T element;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> IterativeBinarySearchTree<T> of(T... elements) {
+        IterativeBinarySearchTree<T> tree = new IterativeBinarySearchTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        Node<T> node = root;
+        while (true) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return false;
+            }
+            Node<T> child = comparison < 0 ? node.left : node.right;
+            if (child == null) {
+                if (comparison < 0) {
+                    node.left = new Node<>(element);
+                } else {
+                    node.right = new Node<>(element);
+                }
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        if (root == null) {
+            return 0;
+        }
+        ArrayDeque<Node<T>> level = new ArrayDeque<>();
+        level.add(root);
+        int depth = -1;
+        while (!level.isEmpty()) {
+            for (int i = level.size(); i > 0; i--) {
+                Node<T> node = level.poll();
+                if (node.left != null) {
+                    level.add(node.left);
+                }
+                if (node.right != null) {
+                    level.add(node.right);
+                }
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        Objects.requireNonNull(consumer);
+        Throwable failure = null;
+        Node<T> node = root;
+        while (node != null) {
+            if (node.left == null) {
+                failure = accept(consumer, node.element, failure);
+                node = node.right;
+            } else {
+                Node<T> predecessor = node.left;
+                while (predecessor.right != null && predecessor.right != node) {
+                    predecessor = predecessor.right;
+                }
+                if (predecessor.right == null) {
+                    predecessor.right = node;
+                    node = node.left;
+                } else {
+                    predecessor.right = null;
+                    failure = accept(consumer, node.element, failure);
+                    node = node.right;
+                }
+            }
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure != null) {
+            throw new UndeclaredThrowableException(failure);
+        }
+    }
+
+    /**
+     * Passes an element to the consumer unless it has already failed.
+     *
+     * @return an exception or an error thrown by the consumer or null
+     */
+    private Throwable accept(Consumer<T> consumer, T element, Throwable failure) {
+        if (failure == null) {
+            try {
+                consumer.accept(element);
+            } catch (Throwable e) {
+                return e;
+            }
+        }
+        return failure;
+    }
+}
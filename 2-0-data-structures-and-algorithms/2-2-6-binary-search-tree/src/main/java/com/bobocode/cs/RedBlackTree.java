@@ -0,0 +1,205 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link RedBlackTree} is a {@link BalancedBinarySearchTree} that colors every node red or black. The root is black,
+ * a red node never has a red child, and every path from a node down to a missing child passes the same number of
+ * black nodes. So the longest path is at most twice as long as the shortest one, and the depth is at most
+ * 2 log(n + 1).
+ * <p>
+ * A new node is inserted red and the tree is fixed going up from it: a red uncle is resolved by recoloring, and a
+ * black uncle by at most two rotations. So an insertion makes at most two rotations, fewer than in an AVL tree on
+ * average. Nodes keep references to their parents, so insertion does not use recursion.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class RedBlackTree<T extends Comparable<T>> implements BalancedBinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+    private long rotationCount;
+
+    private static class Node<T> {
+        final T element;
+        Node<T> left;
+        Node<T> right;
+        Node<T> parent;
+        boolean red = true;
+
+        Node(T element, Node<T> parent) {
+            this.element = element;
+            this.parent = parent;
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> RedBlackTree<T> of(T... elements) {
+        RedBlackTree<T> tree = new RedBlackTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> parent = null;
+        Node<T> current = root;
+        int comparison = 0;
+        while (current != null) {
+            comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return false;
+            }
+            parent = current;
+            current = comparison < 0 ? current.left : current.right;
+        }
+        Node<T> node = new Node<>(element, parent);
+        if (parent == null) {
+            root = node;
+        } else if (comparison < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        size++;
+        fixAfterInsert(node);
+        return true;
+    }
+
+    private void fixAfterInsert(Node<T> node) {
+        while (node != root && node.parent.red) {
+            Node<T> parent = node.parent;
+            Node<T> grandparent = parent.parent;
+            if (parent == grandparent.left) {
+                Node<T> uncle = grandparent.right;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        rotateLeft(parent);
+                        parent = node;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateRight(grandparent);
+                    break;
+                }
+            } else {
+                Node<T> uncle = grandparent.left;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        rotateRight(parent);
+                        parent = node;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateLeft(grandparent);
+                    break;
+                }
+            }
+        }
+        root.red = false;
+    }
+
+    private boolean isRed(Node<T> node) {
+        return node != null && node.red;
+    }
+
+    private void rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        if (right.left != null) {
+            right.left.parent = node;
+        }
+        replaceChild(node, right);
+        right.left = node;
+        node.parent = right;
+        rotationCount++;
+    }
+
+    private void rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        if (left.right != null) {
+            left.right.parent = node;
+        }
+        replaceChild(node, left);
+        left.right = node;
+        node.parent = left;
+        rotationCount++;
+    }
+
+    /**
+     * Puts a child in place of its parent node under the grandparent (or as the root).
+     */
+    private void replaceChild(Node<T> node, Node<T> child) {
+        Node<T> parent = node.parent;
+        child.parent = parent;
+        if (parent == null) {
+            root = child;
+        } else if (node == parent.left) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root == null ? 0 : depth(root);
+    }
+
+    private int depth(Node<T> node) {
+        int left = node.left == null ? 0 : depth(node.left) + 1;
+        int right = node.right == null ? 0 : depth(node.right) + 1;
+        return Math.max(left, right);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public long rotationCount() {
+        return rotationCount;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A JMH benchmark that inserts sorted, reverse-sorted and random sequences into {@link AvlTree} and
+ * {@link RedBlackTree}, with {@link TreeSet} (a red-black tree too) as a baseline. Every invocation builds a new tree
+ * of all the elements. The "rotations" and "depth" counters show the balancing work per tree and the resulting depth.
+ * <p>
+ * {@link RecursiveBinarySearchTree} is not included: sorted input turns it into a linked list of n nodes, which takes
+ * O(n^2) time and overflows the stack of the recursive implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalancedBinarySearchTreeBenchmark {
+
+    public enum Order {
+        SORTED, REVERSE_SORTED, RANDOM
+    }
+
+    @Param({"SORTED", "REVERSE_SORTED", "RANDOM"})
+    private Order order;
+
+    @Param({"100000"})
+    private int size;
+
+    private Integer[] elements;
+
+    @Setup
+    public void setUp() {
+        elements = switch (order) {
+            case SORTED -> IntStream.range(0, size).boxed().toArray(Integer[]::new);
+            case REVERSE_SORTED -> IntStream.range(0, size).map(i -> size - 1 - i).boxed().toArray(Integer[]::new);
+            case RANDOM -> new Random(42).ints(size).boxed().toArray(Integer[]::new);
+        };
+    }
+
+    /**
+     * Metrics of the last built tree. Every invocation builds the same tree, so JMH reports them as is.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Metrics {
+        public long rotations;
+        public long depth;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rotations = 0;
+            depth = 0;
+        }
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> avlTree(Metrics metrics) {
+        return insertAll(AvlTree::new, metrics);
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> redBlackTree(Metrics metrics) {
+        return insertAll(RedBlackTree::new, metrics);
+    }
+
+    @Benchmark
+    public TreeSet<Integer> treeSet() {
+        TreeSet<Integer> tree = new TreeSet<>();
+        for (Integer element : elements) {
+            tree.add(element);
+        }
+        return tree;
+    }
+
+    private BinarySearchTree<Integer> insertAll(Supplier<BalancedBinarySearchTree<Integer>> supplier, Metrics metrics) {
+        BalancedBinarySearchTree<Integer> tree = supplier.get();
+        for (Integer element : elements) {
+            tree.insert(element);
+        }
+        metrics.rotations = tree.rotationCount();
+        metrics.depth = tree.depth();
+        return tree;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BalancedBinarySearchTreeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
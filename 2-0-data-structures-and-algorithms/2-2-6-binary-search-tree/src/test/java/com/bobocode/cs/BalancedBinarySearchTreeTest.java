@@ -0,0 +1,110 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("BalancedBinarySearchTree Test")
+class BalancedBinarySearchTreeTest {
+    private static final int SIZE = 100_000;
+
+    static Stream<Supplier<BalancedBinarySearchTree<Integer>>> trees() {
+        return Stream.of(AvlTree::new, RedBlackTree::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    @DisplayName("an empty tree and a single-element tree have depth 0")
+    void emptyTree(Supplier<BalancedBinarySearchTree<Integer>> supplier) {
+        BalancedBinarySearchTree<Integer> tree = supplier.get();
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.depth()).isZero();
+        assertThat(tree.contains(1)).isFalse();
+        assertThat(tree.insert(1)).isTrue();
+        assertThat(tree.depth()).isZero();
+        assertThat(tree.rotationCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    @DisplayName("three sorted elements are balanced with a single rotation")
+    void singleRotation(Supplier<BalancedBinarySearchTree<Integer>> supplier) {
+        BalancedBinarySearchTree<Integer> tree = supplier.get();
+        tree.insert(1);
+        tree.insert(2);
+        tree.insert(3);
+
+        assertThat(tree.depth()).isEqualTo(1);
+        assertThat(tree.rotationCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    @DisplayName("sorted and reverse-sorted input keep the depth logarithmic")
+    void sortedInput(Supplier<BalancedBinarySearchTree<Integer>> supplier) {
+        BalancedBinarySearchTree<Integer> ascending = supplier.get();
+        BalancedBinarySearchTree<Integer> descending = supplier.get();
+        for (int i = 0; i < SIZE; i++) {
+            ascending.insert(i);
+            descending.insert(SIZE - 1 - i);
+        }
+        int maxDepth = 2 * (32 - Integer.numberOfLeadingZeros(SIZE + 1));
+
+        assertThat(ascending.size()).isEqualTo(SIZE);
+        assertThat(ascending.depth()).isLessThanOrEqualTo(maxDepth);
+        assertThat(descending.depth()).isLessThanOrEqualTo(maxDepth);
+        assertThat(traverse(ascending)).isEqualTo(IntStream.range(0, SIZE).boxed().toList());
+        assertThat(traverse(descending)).isEqualTo(traverse(ascending));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    @DisplayName("duplicates are not inserted and null elements are rejected")
+    void duplicatesAndNulls(Supplier<BalancedBinarySearchTree<Integer>> supplier) {
+        BalancedBinarySearchTree<Integer> tree = supplier.get();
+        tree.insert(10);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    @DisplayName("random operations give the same results as java.util.TreeSet")
+    void randomOperations(Supplier<BalancedBinarySearchTree<Integer>> supplier) {
+        BalancedBinarySearchTree<Integer> tree = supplier.get();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            int value = random.nextInt(SIZE);
+            if (random.nextBoolean()) {
+                assertThat(tree.insert(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.contains(value)).isEqualTo(expected.contains(value));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(traverse(tree)).isEqualTo(new ArrayList<>(expected));
+    }
+
+    private static List<Integer> traverse(BinarySearchTree<Integer> tree) {
+        List<Integer> elements = new ArrayList<>();
+        tree.inOrderTraversal(elements::add);
+        return elements;
+    }
+}
@@ -0,0 +1,117 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link IterativeBinarySearchTree} with {@link RecursiveBinarySearchTree}.
+ * <p>
+ * The "random" benchmarks measure throughput of lookups and traversals on a tree of random elements, which is about
+ * 2 log n deep and does not depend on the depth parameter. The "degenerate" benchmarks measure depth and traversal of
+ * a tree built from sorted elements, which is as deep as its size. The recursive implementation fails with
+ * {@link StackOverflowError} once the depth exceeds what the thread stack can hold, which shows the maximum depth it
+ * supports (it depends on the -Xss option), while the iterative one works at any depth.
+ * <p>
+ * Please note that {@link RecursiveBinarySearchTree} benchmarks require a completed exercise.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterativeBinarySearchTreeBenchmark {
+    private static final int RANDOM_TREE_SIZE = 100_000;
+
+    @Param({"1000", "10000", "50000"})
+    private int depth;
+
+    private Integer[] randomElements;
+    private IterativeBinarySearchTree<Integer> randomTree;
+    private IterativeBinarySearchTree<Integer> degenerateTree;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        randomElements = new Random(42).ints(RANDOM_TREE_SIZE).boxed().toArray(Integer[]::new);
+        randomTree = IterativeBinarySearchTree.of(randomElements);
+        degenerateTree = new IterativeBinarySearchTree<>();
+        for (int i = 0; i <= depth; i++) {
+            degenerateTree.insert(i);
+        }
+    }
+
+    /**
+     * {@link RecursiveBinarySearchTree} trees are kept in a separate state, so the other benchmarks still work when
+     * the exercise is not completed.
+     */
+    @State(Scope.Benchmark)
+    public static class RecursiveTreeState {
+        private RecursiveBinarySearchTree<Integer> randomTree;
+        private RecursiveBinarySearchTree<Integer> degenerateTree;
+
+        @Setup
+        public void setUp(IterativeBinarySearchTreeBenchmark benchmark) {
+            randomTree = RecursiveBinarySearchTree.of(benchmark.randomElements);
+            degenerateTree = new RecursiveBinarySearchTree<>();
+            for (int i = 0; i <= benchmark.depth; i++) {
+                degenerateTree.insert(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean randomContains() {
+        return randomTree.contains(randomElements[next++ % RANDOM_TREE_SIZE]);
+    }
+
+    @Benchmark
+    public boolean recursiveRandomContains(RecursiveTreeState state) {
+        return state.randomTree.contains(randomElements[next++ % RANDOM_TREE_SIZE]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void randomTraversal(Blackhole blackhole) {
+        randomTree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void recursiveRandomTraversal(RecursiveTreeState state, Blackhole blackhole) {
+        state.randomTree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public int degenerateDepth() {
+        return degenerateTree.depth();
+    }
+
+    @Benchmark
+    public int recursiveDegenerateDepth(RecursiveTreeState state) {
+        return state.degenerateTree.depth();
+    }
+
+    @Benchmark
+    public void degenerateTraversal(Blackhole blackhole) {
+        degenerateTree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public void recursiveDegenerateTraversal(RecursiveTreeState state, Blackhole blackhole) {
+        state.degenerateTree.inOrderTraversal(blackhole::consume);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IterativeBinarySearchTreeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
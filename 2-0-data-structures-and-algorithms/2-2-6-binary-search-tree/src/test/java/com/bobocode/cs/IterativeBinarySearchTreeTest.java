@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("IterativeBinarySearchTree Test")
+class IterativeBinarySearchTreeTest {
+
+    @Test
+    @DisplayName("elements are inserted and found, and duplicates and nulls are rejected")
+    void insertAndContains() {
+        IterativeBinarySearchTree<Integer> tree = IterativeBinarySearchTree.of(10, 5, 15, 12);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.contains(12)).isTrue();
+        assertThat(tree.contains(13)).isFalse();
+        assertThat(tree.insert(5)).isFalse();
+        assertThat(tree.depth()).isEqualTo(2);
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @DisplayName("an empty tree and a single-element tree have depth 0")
+    void emptyTree() {
+        IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+
+        assertThat(tree.depth()).isZero();
+        tree.insert(1);
+        assertThat(tree.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("a degenerate tree as deep as its size works on a small thread stack")
+    void deepTree() throws Exception {
+        int size = 10_000;
+        IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+        List<Integer> traversed = new ArrayList<>();
+        int[] depth = new int[1];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            for (int i = 0; i < size; i++) {
+                tree.insert(i);
+            }
+            depth[0] = tree.depth();
+            tree.inOrderTraversal(traversed::add);
+        }, "small-stack", 64 * 1024);
+        thread.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        thread.start();
+        thread.join();
+
+        assertThat(failure.get()).isNull();
+        assertThat(depth[0]).isEqualTo(size - 1);
+        assertThat(tree.contains(size - 1)).isTrue();
+        assertThat(traversed).isEqualTo(IntStream.range(0, size).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("in-order traversal leaves the tree intact even when the consumer throws an exception")
+    void traversalRestoresTree() {
+        IterativeBinarySearchTree<Integer> tree = IterativeBinarySearchTree.of(50, 30, 70, 20, 40, 60, 80, 35, 45);
+        List<Integer> visited = new ArrayList<>();
+
+        assertThatIllegalStateException().isThrownBy(() -> tree.inOrderTraversal(element -> {
+            if (element == 40) {
+                throw new IllegalStateException();
+            }
+            visited.add(element);
+        }));
+        assertThat(visited).containsExactly(20, 30, 35);
+        assertThat(traverse(tree)).containsExactly(20, 30, 35, 40, 45, 50, 60, 70, 80);
+        assertThat(tree.depth()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("in-order traversal leaves the tree intact even when the consumer throws an error")
+    void traversalRestoresTreeAfterError() {
+        IterativeBinarySearchTree<Integer> tree = IterativeBinarySearchTree.of(50, 30, 70, 20, 40, 60, 80, 35, 45);
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> tree.inOrderTraversal(element -> {
+            if (element == 45) {
+                throw new AssertionError();
+            }
+        }));
+        assertThat(traverse(tree)).containsExactly(20, 30, 35, 40, 45, 50, 60, 70, 80);
+        assertThat(tree.contains(45)).isTrue();
+        assertThat(tree.insert(36)).isTrue();
+        assertThat(tree.depth()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.TreeSet")
+    void randomOperations() {
+        IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(100_000);
+            if (random.nextBoolean()) {
+                assertThat(tree.insert(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.contains(value)).isEqualTo(expected.contains(value));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(traverse(tree)).isEqualTo(new ArrayList<>(expected));
+        assertThat(traverse(tree)).isEqualTo(new ArrayList<>(expected));
+    }
+
+    private static List<Integer> traverse(BinarySearchTree<Integer> tree) {
+        List<Integer> elements = new ArrayList<>();
+        tree.inOrderTraversal(elements::add);
+        return elements;
+    }
+}
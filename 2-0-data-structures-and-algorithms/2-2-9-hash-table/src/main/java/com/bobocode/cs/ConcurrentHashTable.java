@@ -0,0 +1,318 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * {@link ConcurrentHashTable} is a thread-safe implementation of {@link Map} interface based on lock striping.
+ * <p>
+ * The table is split into a fixed number of segments. Each segment is a small chained hash table with its own lock,
+ * so threads that modify different segments do not block each other. A segment is resized under its own lock, so
+ * segments grow independently and concurrently, while other segments keep serving writes.
+ * <p>
+ * Reads never take a lock. A segment array and its bins are published through volatile reads and writes
+ * ({@link AtomicReferenceArray}), node keys and links are final, and values are volatile. That's why a modification
+ * never changes a chain that a reader may be walking: a removal copies the nodes in front of the removed one, and
+ * a resize builds new chains.
+ * <p>
+ * Methods {@link ConcurrentHashTable#putIfAbsent(Object, Object)} and
+ * {@link ConcurrentHashTable#compute(Object, BiFunction)} are atomic. {@link ConcurrentHashTable#size()} and
+ * {@link ConcurrentHashTable#containsValue(Object)} are not atomic, they can miss concurrent modifications.
+ * Null keys and null values are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentHashTable<K, V> implements Map<K, V> {
+    static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    static final int DEFAULT_SEGMENT_CAPACITY = 8;
+    static final float LOAD_FACTOR = 0.75f;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    public ConcurrentHashTable() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a table with a given number of segments, which is rounded up to a power of two. It should be close to
+     * the number of threads that modify the table at the same time.
+     *
+     * @param concurrencyLevel expected number of concurrently updating threads
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTable(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level should be positive: " + concurrencyLevel);
+        }
+        int segmentCount = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(DEFAULT_SEGMENT_CAPACITY);
+        }
+        segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Mixes all bits of a hash code (murmur3 finalizer). High bits choose a segment, and low bits choose a bucket
+     * inside the segment, so both of them have to be well distributed.
+     */
+    static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // a shift by 32 is a shift by 0 in Java, so a single segment is handled separately
+        return segmentMask == 0 ? segments[0] : segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        return segmentFor(hash).put(hash, key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        return segmentFor(hash).put(hash, key, value, true);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        int hash = hash(key);
+        return segmentFor(hash).compute(hash, key, remappingFunction);
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).get(hash, key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        Objects.requireNonNull(value);
+        for (Segment<K, V> segment : segments) {
+            if (segment.containsValue(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.count;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(hash, key);
+    }
+
+    /**
+     * A segment is a chained hash table guarded by its own lock. All modifications are done under the lock, while
+     * reads rely on volatile fields only.
+     */
+    static final class Segment<K, V> extends ReentrantLock {
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count;
+        private int resizeThreshold;
+
+        Segment(int capacity) {
+            setTable(new AtomicReferenceArray<>(capacity));
+        }
+
+        private void setTable(AtomicReferenceArray<Node<K, V>> newTable) {
+            resizeThreshold = (int) (newTable.length() * LOAD_FACTOR);
+            table = newTable;
+        }
+
+        V get(int hash, Object key) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            for (Node<K, V> node = tab.get(hash & (tab.length() - 1)); node != null; node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    return node.value;
+                }
+            }
+            return null;
+        }
+
+        boolean containsValue(Object value) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            for (int i = 0; i < tab.length(); i++) {
+                for (Node<K, V> node = tab.get(i); node != null; node = node.next) {
+                    if (value.equals(node.value)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        V put(int hash, K key, V value, boolean onlyIfAbsent) {
+            lock();
+            try {
+                Node<K, V> node = find(hash, key);
+                if (node != null) {
+                    V oldValue = node.value;
+                    if (!onlyIfAbsent) {
+                        node.value = value;
+                    }
+                    return oldValue;
+                }
+                insert(hash, key, value);
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        V compute(int hash, K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            lock();
+            try {
+                Node<K, V> node = find(hash, key);
+                V newValue = remappingFunction.apply(key, node == null ? null : node.value);
+                if (newValue == null) {
+                    if (node != null) {
+                        remove(hash, key);
+                    }
+                } else if (node != null) {
+                    node.value = newValue;
+                } else {
+                    insert(hash, key, newValue);
+                }
+                return newValue;
+            } finally {
+                unlock();
+            }
+        }
+
+        V remove(int hash, Object key) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K, V> head = tab.get(index);
+                Node<K, V> removed = head;
+                while (removed != null && !(removed.hash == hash && removed.key.equals(key))) {
+                    removed = removed.next;
+                }
+                if (removed == null) {
+                    return null;
+                }
+                // nodes after the removed one are reused, nodes in front of it are copied
+                Node<K, V> newHead = removed.next;
+                for (Node<K, V> node = head; node != removed; node = node.next) {
+                    newHead = new Node<>(node.hash, node.key, node.value, newHead);
+                }
+                tab.set(index, newHead);
+                count--;
+                return removed.value;
+            } finally {
+                unlock();
+            }
+        }
+
+        private Node<K, V> find(int hash, Object key) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            for (Node<K, V> node = tab.get(hash & (tab.length() - 1)); node != null; node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        private void insert(int hash, K key, V value) {
+            if (count + 1 > resizeThreshold) {
+                resize();
+            }
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            int index = hash & (tab.length() - 1);
+            tab.set(index, new Node<>(hash, key, value, tab.get(index)));
+            count++;
+        }
+
+        /**
+         * Builds a new table that is twice as big. Readers keep using the old table until the new one is published.
+         * A trailing run of nodes that land in the same new bucket is reused, the rest of the nodes are copied.
+         */
+        private void resize() {
+            AtomicReferenceArray<Node<K, V>> oldTable = table;
+            int newCapacity = oldTable.length() << 1;
+            int newMask = newCapacity - 1;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(newCapacity);
+            for (int i = 0; i < oldTable.length(); i++) {
+                Node<K, V> head = oldTable.get(i);
+                if (head == null) {
+                    continue;
+                }
+                Node<K, V> lastRun = head;
+                int lastRunIndex = head.hash & newMask;
+                for (Node<K, V> node = head.next; node != null; node = node.next) {
+                    int index = node.hash & newMask;
+                    if (index != lastRunIndex) {
+                        lastRunIndex = index;
+                        lastRun = node;
+                    }
+                }
+                newTable.set(lastRunIndex, lastRun);
+                for (Node<K, V> node = head; node != lastRun; node = node.next) {
+                    int index = node.hash & newMask;
+                    newTable.set(index, new Node<>(node.hash, node.key, node.value, newTable.get(index)));
+                }
+            }
+            setTable(newTable);
+        }
+    }
+}
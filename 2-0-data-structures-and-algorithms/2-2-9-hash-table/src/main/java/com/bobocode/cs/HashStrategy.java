@@ -0,0 +1,71 @@
+package com.bobocode.cs;
+
+/**
+ * {@link HashStrategy} defines how a key hash code is turned into an array index of a table, which capacity is
+ * a power of two. A good strategy spreads keys evenly even if their hash codes are not random (e.g. sequential numbers,
+ * or strings that differ in the last characters only).
+ * <p>
+ * The constant strategies are fixed functions, so anyone who knows them can choose keys that land in one bucket.
+ * A strategy created by {@link HashStrategy#seeded(long)} mixes a secret seed into every index, so colliding keys
+ * cannot be computed in advance without knowing the seed. No strategy separates keys with equal hash codes, so those
+ * are still handled by the table itself (e.g. by converting a long chain into a tree).
+ */
+@FunctionalInterface
+public interface HashStrategy {
+    /**
+     * Uses the low bits of a hash code as is. It is the fastest strategy, but keys which hash codes differ in high bits
+     * only always collide.
+     */
+    HashStrategy IDENTITY = (hashCode, tableCapacity) -> hashCode & (tableCapacity - 1);
+
+    /**
+     * Mixes the high bits into the low ones like {@link java.util.HashMap} does.
+     */
+    HashStrategy XOR_SHIFT = (hashCode, tableCapacity) -> (hashCode ^ (hashCode >>> 16)) & (tableCapacity - 1);
+
+    /**
+     * Multiplies a hash code by 2^32 / golden ratio and takes the high bits of the result. It spreads sequential hash
+     * codes across the whole table.
+     */
+    HashStrategy FIBONACCI = (hashCode, tableCapacity) ->
+            tableCapacity == 1 ? 0 : (hashCode * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(tableCapacity - 1);
+
+    /**
+     * Applies a murmur3 finalizer, so every bit of a hash code affects every bit of an index.
+     */
+    HashStrategy MURMUR3 = (hashCode, tableCapacity) -> murmur3Finalizer(hashCode) & (tableCapacity - 1);
+
+    /**
+     * Creates a strategy that hashes a hash code with murmur3 and a given seed. Tables that use different random seeds
+     * put the same keys into different buckets.
+     *
+     * @param seed a seed, which should be random and kept secret
+     * @return a seeded strategy
+     */
+    static HashStrategy seeded(long seed) {
+        int seed32 = (int) (seed ^ (seed >>> 32));
+        return (hashCode, tableCapacity) -> {
+            int k = Integer.rotateLeft(hashCode * 0xcc9e2d51, 15) * 0x1b873593;
+            int h = Integer.rotateLeft(seed32 ^ k, 13) * 5 + 0xe6546b64;
+            return murmur3Finalizer(h ^ Integer.BYTES) & (tableCapacity - 1);
+        };
+    }
+
+    private static int murmur3Finalizer(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Calculates an array index for a given hash code.
+     *
+     * @param hashCode      a key hash code
+     * @param tableCapacity underlying array size, which should be a power of two
+     * @return array index of the given hash code
+     */
+    int indexFor(int hashCode, int tableCapacity);
+}
@@ -0,0 +1,55 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+
+/**
+ * {@link HashTableStats} is a snapshot of a hash table state that helps to detect a degraded table. A healthy table
+ * has a load factor below one, most of the buckets with zero or one entry, and an average number of probes close to
+ * one. Long chains or a high number of probes mean that key hash codes are poorly distributed (or are chosen on
+ * purpose to collide). The stats are immutable: the histogram is copied when the stats are created and when it is
+ * read.
+ *
+ * @param size                 a number of entries
+ * @param capacity             a number of buckets
+ * @param loadFactor           a number of entries per bucket
+ * @param chainLengthHistogram a number of buckets for each chain length (index is a chain length)
+ * @param treeBinCount         a number of buckets that were converted to trees
+ * @param lookupCount          a number of key lookups since the table was created
+ * @param probeCount           a number of keys compared during those lookups
+ */
+public record HashTableStats(int size, int capacity, double loadFactor, int[] chainLengthHistogram, int treeBinCount,
+                             long lookupCount, long probeCount) {
+
+    public HashTableStats {
+        chainLengthHistogram = chainLengthHistogram.clone();
+    }
+
+    /**
+     * @return a copy of the histogram, so the stats cannot be changed
+     */
+    @Override
+    public int[] chainLengthHistogram() {
+        return chainLengthHistogram.clone();
+    }
+
+    /**
+     * @return the longest chain length
+     */
+    public int maxChainLength() {
+        return chainLengthHistogram.length - 1;
+    }
+
+    /**
+     * @return an average number of keys compared per lookup
+     */
+    public double averageProbeCount() {
+        return lookupCount == 0 ? 0 : (double) probeCount / lookupCount;
+    }
+
+    @Override
+    public String toString() {
+        return "HashTableStats{size=" + size + ", capacity=" + capacity + ", loadFactor=" + loadFactor
+                + ", chainLengthHistogram=" + Arrays.toString(chainLengthHistogram) + ", treeBinCount=" + treeBinCount
+                + ", averageProbeCount=" + averageProbeCount() + "}";
+    }
+}
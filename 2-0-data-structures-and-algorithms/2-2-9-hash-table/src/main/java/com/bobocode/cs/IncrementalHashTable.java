@@ -0,0 +1,410 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link IncrementalHashTable} is a chained implementation of {@link Map} interface, that resizes its table
+ * incrementally. When {@link HashTable} reaches its resize threshold, one {@link Map#put(Object, Object)} call has to
+ * move all the elements to a new array, and that single call can take milliseconds on a big table.
+ * <p>
+ * This table works like Redis dict: when it needs to grow, it allocates a new array but keeps the old one. While both
+ * arrays exist, every operation moves a few buckets (see {@link IncrementalHashTable#MIGRATED_BUCKETS_PER_STEP}) from
+ * the old array to the new one. New entries always go to the new array, and lookups check both of them. Once all
+ * buckets are moved, the old array is dropped. That way the cost of resizing is spread between many operations, and
+ * the latency of each of them stays flat.
+ * <p>
+ * An array index is calculated by a {@link HashStrategy}, which can be chosen when the table is created. By default,
+ * every table gets its own randomly seeded strategy (see {@link HashStrategy#seeded(long)}), so keys that collide in
+ * its buckets cannot be chosen in advance. If keys still pile up in one bucket (e.g. many keys have the same hash
+ * code), a chain longer than {@link IncrementalHashTable#TREEIFY_THRESHOLD} is converted into a tree ordered by a hash
+ * code and then by {@link Comparable#compareTo(Object)}, so a lookup takes O(log n) instead of O(n). Only a bucket
+ * which keys are {@link Comparable} and have the same class can be converted. Method
+ * {@link IncrementalHashTable#stats()} shows how well keys are distributed.
+ * <p>
+ * Null keys are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class IncrementalHashTable<K, V> implements Map<K, V> {
+    static final int DEFAULT_CAPACITY = 8;
+    static final float LOAD_FACTOR = 0.75f;
+    /**
+     * A number of non-empty buckets moved per operation. It has to be at least 2, so the rehashing always completes
+     * before the new table reaches its own resize threshold.
+     */
+    static final int MIGRATED_BUCKETS_PER_STEP = 4;
+    private static final int EMPTY_BUCKET_VISITS_PER_STEP = MIGRATED_BUCKETS_PER_STEP * 10;
+    static final int TREEIFY_THRESHOLD = 8;
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> TREE_ORDER = Comparator.comparingInt(Object::hashCode)
+            .thenComparing((a, b) -> ((Comparable) a).compareTo(b));
+
+    private final HashStrategy hashStrategy;
+    private Node<K, V>[] table;
+    private Node<K, V>[] newTable;
+    private int rehashIndex;
+    private int size;
+    private long lookupCount;
+    private long probeCount;
+
+    static class Node<K, V> {
+        final K key;
+        V value;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A special bucket head that keeps colliding nodes in a red-black tree instead of a chain.
+     */
+    static final class TreeBin<K, V> extends Node<K, V> {
+        final Class<?> keyClass;
+        final TreeMap<K, Node<K, V>> nodes = new TreeMap<>(TREE_ORDER);
+
+        TreeBin(Class<?> keyClass) {
+            super(null, null);
+            this.keyClass = keyClass;
+        }
+    }
+
+    public IncrementalHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IncrementalHashTable(int initialCapacity) {
+        this(initialCapacity, HashStrategy.seeded(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Creates a table with a given initial array size, that is rounded up to a power of two.
+     *
+     * @param initialCapacity initial array size
+     * @param hashStrategy    a strategy that calculates an array index of a key
+     */
+    @SuppressWarnings("unchecked")
+    public IncrementalHashTable(int initialCapacity, HashStrategy hashStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive: " + initialCapacity);
+        }
+        int capacity = initialCapacity == 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.table = (Node<K, V>[]) new Node[capacity];
+        this.hashStrategy = Objects.requireNonNull(hashStrategy);
+    }
+
+    private int calculateIndex(Object key, int tableCapacity) {
+        return hashStrategy.indexFor(key.hashCode(), tableCapacity);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        rehashStep();
+        Node<K, V> node = findNode(key);
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            return oldValue;
+        }
+        addNode(isRehashing() ? newTable : table, new Node<>(key, value));
+        size++;
+        if (!isRehashing() && size > table.length * LOAD_FACTOR) {
+            startRehashing();
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        rehashStep();
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Objects.requireNonNull(key);
+        rehashStep();
+        return findNode(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        return containsValue(table, value) || (isRehashing() && containsValue(newTable, value));
+    }
+
+    private static <K, V> boolean containsValue(Node<K, V>[] table, V value) {
+        for (Node<K, V> head : table) {
+            if (head instanceof TreeBin<K, V> bin) {
+                for (Node<K, V> node : bin.nodes.values()) {
+                    if (Objects.equals(node.value, value)) {
+                        return true;
+                    }
+                }
+            } else {
+                for (Node<K, V> current = head; current != null; current = current.next) {
+                    if (Objects.equals(current.value, value)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        rehashStep();
+        Node<K, V> removed = removeNode(table, key);
+        if (removed == null && isRehashing()) {
+            removed = removeNode(newTable, key);
+        }
+        if (removed == null) {
+            return null;
+        }
+        size--;
+        return removed.value;
+    }
+
+    /**
+     * Returns a snapshot of the table statistics. While the table is being rehashed, both arrays are included.
+     *
+     * @return table statistics
+     */
+    public HashTableStats stats() {
+        List<Node<K, V>[]> tables = isRehashing() ? List.of(table, newTable) : List.<Node<K, V>[]>of(table);
+        int capacity = 0;
+        int maxChainLength = 0;
+        for (Node<K, V>[] tab : tables) {
+            capacity += tab.length;
+            for (Node<K, V> head : tab) {
+                maxChainLength = Math.max(maxChainLength, chainLength(head));
+            }
+        }
+        int[] chainLengthHistogram = new int[maxChainLength + 1];
+        int treeBinCount = 0;
+        for (Node<K, V>[] tab : tables) {
+            for (Node<K, V> head : tab) {
+                chainLengthHistogram[chainLength(head)]++;
+                if (head instanceof TreeBin) {
+                    treeBinCount++;
+                }
+            }
+        }
+        return new HashTableStats(size, capacity, (double) size / capacity, chainLengthHistogram, treeBinCount,
+                lookupCount, probeCount);
+    }
+
+    private static <K, V> int chainLength(Node<K, V> head) {
+        if (head instanceof TreeBin<K, V> bin) {
+            return bin.nodes.size();
+        }
+        int length = 0;
+        for (Node<K, V> current = head; current != null; current = current.next) {
+            length++;
+        }
+        return length;
+    }
+
+    private Node<K, V> findNode(K key) {
+        lookupCount++;
+        Node<K, V> node = findNode(table, key);
+        if (node == null && isRehashing()) {
+            node = findNode(newTable, key);
+        }
+        return node;
+    }
+
+    private Node<K, V> findNode(Node<K, V>[] table, K key) {
+        Node<K, V> head = table[calculateIndex(key, table.length)];
+        if (head instanceof TreeBin<K, V> bin) {
+            if (bin.keyClass != key.getClass()) {
+                return null;
+            }
+            // a red-black tree lookup compares about log2(n) keys
+            probeCount += Integer.SIZE - Integer.numberOfLeadingZeros(bin.nodes.size());
+            return bin.nodes.get(key);
+        }
+        for (Node<K, V> current = head; current != null; current = current.next) {
+            probeCount++;
+            if (current.key.equals(key)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a node to the bucket, and converts the bucket into a tree if the chain gets too long.
+     */
+    private void addNode(Node<K, V>[] table, Node<K, V> node) {
+        int index = calculateIndex(node.key, table.length);
+        if (table[index] instanceof TreeBin<K, V> bin) {
+            if (bin.keyClass == node.key.getClass()) {
+                node.next = null;
+                bin.nodes.put(node.key, node);
+                return;
+            }
+            untreeify(table, index);
+        }
+        node.next = table[index];
+        table[index] = node;
+        if (chainLength(node) > TREEIFY_THRESHOLD) {
+            treeify(table, index);
+        }
+    }
+
+    private Node<K, V> removeNode(Node<K, V>[] table, K key) {
+        int index = calculateIndex(key, table.length);
+        if (table[index] instanceof TreeBin<K, V> bin) {
+            Node<K, V> removed = bin.keyClass == key.getClass() ? bin.nodes.remove(key) : null;
+            if (bin.nodes.size() <= UNTREEIFY_THRESHOLD) {
+                untreeify(table, index);
+            }
+            return removed;
+        }
+        Node<K, V> previous = null;
+        for (Node<K, V> current = table[index]; current != null; previous = current, current = current.next) {
+            if (current.key.equals(key)) {
+                if (previous == null) {
+                    table[index] = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private void treeify(Node<K, V>[] table, int index) {
+        Class<?> keyClass = table[index].key.getClass();
+        for (Node<K, V> current = table[index]; current != null; current = current.next) {
+            if (current.key.getClass() != keyClass || !(current.key instanceof Comparable)) {
+                return;
+            }
+        }
+        TreeBin<K, V> bin = new TreeBin<>(keyClass);
+        for (Node<K, V> current = table[index]; current != null; ) {
+            Node<K, V> next = current.next;
+            current.next = null;
+            bin.nodes.put(current.key, current);
+            current = next;
+        }
+        table[index] = bin;
+    }
+
+    private void untreeify(Node<K, V>[] table, int index) {
+        TreeBin<K, V> bin = (TreeBin<K, V>) table[index];
+        Node<K, V> head = null;
+        for (Node<K, V> node : bin.nodes.values()) {
+            node.next = head;
+            head = node;
+        }
+        table[index] = head;
+    }
+
+    /**
+     * @return true if the table is being resized, and both old and new arrays exist
+     */
+    boolean isRehashing() {
+        return newTable != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void startRehashing() {
+        newTable = (Node<K, V>[]) new Node[table.length << 1];
+        rehashIndex = 0;
+    }
+
+    /**
+     * Moves up to {@link IncrementalHashTable#MIGRATED_BUCKETS_PER_STEP} non-empty buckets to the new table. To keep
+     * the step short when the old table is sparse, it visits a limited number of empty buckets.
+     */
+    private void rehashStep() {
+        if (!isRehashing()) {
+            return;
+        }
+        int movedBuckets = 0;
+        int emptyVisits = 0;
+        while (rehashIndex < table.length && movedBuckets < MIGRATED_BUCKETS_PER_STEP
+                && emptyVisits < EMPTY_BUCKET_VISITS_PER_STEP) {
+            Node<K, V> head = table[rehashIndex];
+            if (head == null) {
+                emptyVisits++;
+            } else {
+                if (head instanceof TreeBin<K, V> bin) {
+                    bin.nodes.values().forEach(node -> addNode(newTable, node));
+                } else {
+                    for (Node<K, V> current = head; current != null; ) {
+                        Node<K, V> next = current.next;
+                        addNode(newTable, current);
+                        current = next;
+                    }
+                }
+                table[rehashIndex] = null;
+                movedBuckets++;
+            }
+            rehashIndex++;
+        }
+        if (rehashIndex == table.length) {
+            table = newTable;
+            newTable = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTable(builder, table);
+        if (isRehashing()) {
+            builder.append("rehashing to:\n");
+            appendTable(builder, newTable);
+        }
+        return builder.toString();
+    }
+
+    private static <K, V> void appendTable(StringBuilder builder, Node<K, V>[] table) {
+        for (int i = 0; i < table.length; i++) {
+            builder.append(i).append(": ");
+            Iterable<Node<K, V>> nodes = table[i] instanceof TreeBin<K, V> bin ? bin.nodes.values() : chain(table[i]);
+            String separator = "";
+            for (Node<K, V> node : nodes) {
+                builder.append(separator).append(node.key).append("=").append(node.value);
+                separator = " -> ";
+            }
+            builder.append("\n");
+        }
+    }
+
+    private static <K, V> Iterable<Node<K, V>> chain(Node<K, V> head) {
+        List<Node<K, V>> nodes = new ArrayList<>();
+        for (Node<K, V> current = head; current != null; current = current.next) {
+            nodes.add(current);
+        }
+        return nodes;
+    }
+}
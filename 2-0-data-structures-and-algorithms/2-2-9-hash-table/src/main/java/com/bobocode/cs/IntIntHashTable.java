@@ -0,0 +1,189 @@
+package com.bobocode.cs;
+
+/**
+ * {@link IntIntHashTable} is an open-addressing hash table that maps primitive {@code int} keys to primitive
+ * {@code int} values. Both keys and values are stored in a single {@code int[]} array (key, value, key, value, ...),
+ * so a key and its value always share a cache line, and the table does not allocate anything except the array itself.
+ * <p>
+ * Since a primitive value cannot be null, methods that return null in {@link Map} return a "missing value" instead.
+ * It is 0 by default and can be changed using a constructor. Key 0 is used as an empty slot marker inside the array,
+ * so an entry with key 0 is stored in separate fields. Collisions are resolved with linear probing and backward shift
+ * deletion.
+ */
+public class IntIntHashTable {
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final int missingValue;
+    private int[] entries;
+    private int mask;
+    private int shift;
+    private int resizeThreshold;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroKeyValue;
+
+    public IntIntHashTable() {
+        this(LinearProbingHashTable.DEFAULT_CAPACITY, 0);
+    }
+
+    /**
+     * Creates a table that can hold the given number of entries without being resized.
+     *
+     * @param expectedSize expected number of entries
+     * @param missingValue a value that is returned when there is no such key
+     */
+    public IntIntHashTable(int expectedSize, int missingValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + expectedSize);
+        }
+        this.missingValue = missingValue;
+        this.zeroKeyValue = missingValue;
+        allocate(LinearProbingHashTable.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        entries = new int[capacity * 2];
+        mask = capacity - 1;
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+        resizeThreshold = (int) (capacity * LinearProbingHashTable.LOAD_FACTOR);
+    }
+
+    private int indexOf(int key) {
+        return (key * GOLDEN_RATIO) >>> shift;
+    }
+
+    private int find(int key) {
+        for (int i = indexOf(key); entries[i << 1] != 0; i = (i + 1) & mask) {
+            if (entries[i << 1] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return a value that is returned when there is no such key
+     */
+    public int missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Creates or updates a mapping for a given key.
+     *
+     * @return an old value, or a missing value if the key is new
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int oldValue = zeroKeyValue;
+            zeroKeyValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int i = indexOf(key);
+        for (; entries[i << 1] != 0; i = (i + 1) & mask) {
+            if (entries[i << 1] == key) {
+                int oldValue = entries[(i << 1) + 1];
+                entries[(i << 1) + 1] = value;
+                return oldValue;
+            }
+        }
+        entries[i << 1] = key;
+        entries[(i << 1) + 1] = value;
+        if (++size > resizeThreshold) {
+            resize((mask + 1) << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return a value mapped to the given key, or a missing value if there is no such key
+     */
+    public int get(int key) {
+        if (key == 0) {
+            return zeroKeyValue;
+        }
+        int i = find(key);
+        return i < 0 ? missingValue : entries[(i << 1) + 1];
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    public boolean containsValue(int value) {
+        if (hasZeroKey && zeroKeyValue == value) {
+            return true;
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] != 0 && entries[i + 1] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes a mapping for a given key.
+     *
+     * @return a removed value, or a missing value if there is no such key
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            int removedValue = zeroKeyValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroKeyValue = missingValue;
+                size--;
+            }
+            return removedValue;
+        }
+        int i = find(key);
+        if (i < 0) {
+            return missingValue;
+        }
+        int removedValue = entries[(i << 1) + 1];
+        shiftBackFrom(i);
+        size--;
+        return removedValue;
+    }
+
+    private void shiftBackFrom(int gap) {
+        for (int i = (gap + 1) & mask; entries[i << 1] != 0; i = (i + 1) & mask) {
+            int ideal = indexOf(entries[i << 1]);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                entries[gap << 1] = entries[i << 1];
+                entries[(gap << 1) + 1] = entries[(i << 1) + 1];
+                gap = i;
+            }
+        }
+        entries[gap << 1] = 0;
+        entries[(gap << 1) + 1] = 0;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldEntries = entries;
+        allocate(newCapacity);
+        for (int i = 0; i < oldEntries.length; i += 2) {
+            if (oldEntries[i] != 0) {
+                int j = indexOf(oldEntries[i]);
+                while (entries[j << 1] != 0) {
+                    j = (j + 1) & mask;
+                }
+                entries[j << 1] = oldEntries[i];
+                entries[(j << 1) + 1] = oldEntries[i + 1];
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link LinearProbingHashTable} is an open-addressing implementation of {@link Map} interface. Unlike
+ * {@link HashTable}, it does not create a node per entry. Keys and values are stored in two parallel arrays, and
+ * collisions are resolved by checking the next slots one by one (linear probing). Because neighbouring slots usually
+ * share a cache line, a lookup rarely needs more than one memory access.
+ * <p>
+ * Removal uses backward shift deletion: all entries that follow the removed one in the same probe sequence are moved
+ * one step back. That's why the table does not need tombstones, and lookups do not slow down after many removals.
+ * <p>
+ * The capacity is always a power of two, so an index is calculated with a bit mask. The table is resized (doubled)
+ * once it is more than {@link LinearProbingHashTable#LOAD_FACTOR} full. Null keys are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class LinearProbingHashTable<K, V> implements Map<K, V> {
+    static final int DEFAULT_CAPACITY = 8;
+    static final float LOAD_FACTOR = 0.65f;
+
+    private K[] keys;
+    private V[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+
+    public LinearProbingHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table that can hold the given number of entries without being resized.
+     *
+     * @param expectedSize expected number of entries
+     */
+    public LinearProbingHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    static int capacityFor(int expectedSize) {
+        int minCapacity = (int) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        return spread(key.hashCode()) & mask;
+    }
+
+    /**
+     * Returns a slot index of a given key, or -1 if there is no such key.
+     */
+    private int find(Object key) {
+        Objects.requireNonNull(key);
+        for (int i = indexOf(key); keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        for (; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) {
+                V oldValue = values[i];
+                values[i] = value;
+                return oldValue;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int i = find(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        V removedValue = values[i];
+        shiftBackFrom(i);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Empties a given slot and moves back entries that would become unreachable otherwise.
+     */
+    private void shiftBackFrom(int gap) {
+        for (int i = (gap + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            int ideal = indexOf(keys[i]);
+            // an entry can be moved to the gap only if its ideal slot is not located between the gap and the entry
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = null;
+    }
+
+    private void resize(int newCapacity) {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int j = indexOf(oldKeys[i]);
+                while (keys[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * @return a size of the underlying arrays
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(i).append(": ");
+            if (keys[i] != null) {
+                builder.append(keys[i]).append("=").append(values[i]);
+            }
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+}
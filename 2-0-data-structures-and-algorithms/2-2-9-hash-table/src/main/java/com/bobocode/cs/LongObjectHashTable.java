@@ -0,0 +1,172 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link LongObjectHashTable} is an open-addressing hash table specialized for primitive {@code long} keys. It has
+ * the same operations as {@link Map}, but keys are never boxed: they are stored in a {@code long[]} array, and values
+ * in a parallel array.
+ * <p>
+ * Key 0 is used as an empty slot marker inside the array, so an entry with key 0 is stored in separate fields.
+ * Indexes are calculated using Fibonacci hashing (a multiplication by 2^64 / golden ratio), which spreads sequential
+ * keys like ids across the whole table. Collisions are resolved with linear probing and backward shift deletion.
+ *
+ * @param <V> value type
+ */
+public class LongObjectHashTable<V> {
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private V[] values;
+    private int mask;
+    private int shift;
+    private int resizeThreshold;
+    private int size;
+    private boolean hasZeroKey;
+    private V zeroKeyValue;
+
+    public LongObjectHashTable() {
+        this(LinearProbingHashTable.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table that can hold the given number of entries without being resized.
+     *
+     * @param expectedSize expected number of entries
+     */
+    public LongObjectHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + expectedSize);
+        }
+        allocate(LinearProbingHashTable.capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        resizeThreshold = (int) (capacity * LinearProbingHashTable.LOAD_FACTOR);
+    }
+
+    private int indexOf(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private int find(long key) {
+        for (int i = indexOf(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public V put(long key, V value) {
+        if (key == 0) {
+            V oldValue = zeroKeyValue;
+            zeroKeyValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int i = indexOf(key);
+        for (; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V oldValue = values[i];
+                values[i] = value;
+                return oldValue;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    public V get(long key) {
+        if (key == 0) {
+            return zeroKeyValue;
+        }
+        int i = find(key);
+        return i < 0 ? null : values[i];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    public boolean containsValue(V value) {
+        if (hasZeroKey && Objects.equals(zeroKeyValue, value)) {
+            return true;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V remove(long key) {
+        if (key == 0) {
+            V removedValue = zeroKeyValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroKeyValue = null;
+                size--;
+            }
+            return removedValue;
+        }
+        int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        V removedValue = values[i];
+        shiftBackFrom(i);
+        size--;
+        return removedValue;
+    }
+
+    private void shiftBackFrom(int gap) {
+        for (int i = (gap + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int ideal = indexOf(keys[i]);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int j = indexOf(oldKeys[i]);
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.bobocode.cs;
 
+import java.util.function.BiFunction;
+
 /**
  * A {@link Map} is a simplified interface of so-called dictionary. It maps keys to values and provides an API for data
  * access and manipulation. Please note that a map does not support duplicate keys.
@@ -66,4 +68,46 @@ public interface Map<K, V> {
      * @return a removed value or null
      */
     V remove(K key);
+
+    /**
+     * Creates a mapping for a given key only if there is no value mapped to it yet. Returns the current value, or null
+     * if a new mapping was created.
+     * <p>
+     * The default implementation is based on {@link Map#get(Object)} and {@link Map#put(Object, Object)}, so it is not
+     * atomic. Thread-safe implementations should override it.
+     *
+     * @param key
+     * @param value
+     * @return the current value or null
+     */
+    default V putIfAbsent(K key, V value) {
+        V currentValue = get(key);
+        if (currentValue == null) {
+            currentValue = put(key, value);
+        }
+        return currentValue;
+    }
+
+    /**
+     * Computes a new value for a given key using its current value (or null if there is no such key). If the function
+     * returns null, the mapping is removed. Otherwise, the key is mapped to a new value.
+     * <p>
+     * The default implementation is not atomic. Thread-safe implementations should override it.
+     *
+     * @param key
+     * @param remappingFunction a function that accepts a key and its current value, and returns a new value
+     * @return a new value or null
+     */
+    default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V oldValue = get(key);
+        V newValue = remappingFunction.apply(key, oldValue);
+        if (newValue == null) {
+            if (oldValue != null || containsKey(key)) {
+                remove(key);
+            }
+            return null;
+        }
+        put(key, newValue);
+        return newValue;
+    }
 }
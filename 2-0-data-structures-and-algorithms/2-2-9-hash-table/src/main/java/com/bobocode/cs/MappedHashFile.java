@@ -0,0 +1,184 @@
+package com.bobocode.cs;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link MappedHashFile} is an immutable hash table stored in a file and accessed via memory mapping. It is used by
+ * {@link PersistentHashTable} as a checkpoint, so opening a table does not require reading all the entries.
+ * <p>
+ * The file consists of a header [magic, version, entry count, bucket count], a bucket array of record offsets
+ * (open addressing with linear probing), a parallel array of key hashes, and [key length, value length, key bytes,
+ * value bytes] records. Hashes are calculated from serialized keys, so they stay the same after a restart. Please note
+ * that every region is mapped separately, and one mapping cannot exceed 2 GB.
+ */
+class MappedHashFile {
+    private static final int MAGIC = 0x48544246; // "HTBF"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final long EMPTY = -1;
+
+    private final int size;
+    private final int mask;
+    private final LongBuffer offsets;
+    private final IntBuffer hashes;
+    private final ByteBuffer records;
+
+    static int hash(byte[] keyBytes) {
+        int h = Arrays.hashCode(keyBytes);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An entry source for {@link MappedHashFile#write(Path, int, EntrySource)}.
+     */
+    interface EntrySource {
+        void forEach(BiConsumer<byte[], byte[]> consumer);
+    }
+
+    /**
+     * Writes a new file with a given number of entries and forces it to the disk.
+     */
+    static void write(Path path, int size, EntrySource entries) {
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, size * 2 - 1)) << 1);
+        long[] bucketOffsets = new long[capacity];
+        int[] bucketHashes = new int[capacity];
+        Arrays.fill(bucketOffsets, EMPTY);
+        long recordsStart = HEADER_SIZE + (long) capacity * (Long.BYTES + Integer.BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(recordsStart);
+            OutputStream channelStream = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(channelStream, 1 << 16));
+            long[] offset = {0};
+            int[] count = {0};
+            entries.forEach((key, value) -> {
+                int hash = hash(key);
+                int i = hash & (capacity - 1);
+                while (bucketOffsets[i] != EMPTY) {
+                    i = (i + 1) & (capacity - 1);
+                }
+                bucketOffsets[i] = offset[0];
+                bucketHashes[i] = hash;
+                try {
+                    out.writeInt(key.length);
+                    out.writeInt(value.length);
+                    out.write(key);
+                    out.write(value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                offset[0] += RECORD_HEADER_SIZE + key.length + value.length;
+                count[0]++;
+            });
+            out.flush();
+            if (count[0] != size) {
+                throw new IllegalStateException("Expected " + size + " entries, but got " + count[0]);
+            }
+            ByteBuffer index = ByteBuffer.allocate((int) recordsStart);
+            index.putInt(MAGIC).putInt(VERSION).putLong(size).putInt(capacity).putInt(0);
+            index.asLongBuffer().put(bucketOffsets);
+            index.position(HEADER_SIZE + capacity * Long.BYTES);
+            index.asIntBuffer().put(bucketHashes);
+            index.clear();
+            channel.write(index, 0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps an existing file.
+     */
+    MappedHashFile(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Not a hash table file: " + path);
+            }
+            size = Math.toIntExact(header.getLong(8));
+            int capacity = header.getInt(16);
+            mask = capacity - 1;
+            long position = HEADER_SIZE;
+            offsets = map(channel, position, (long) capacity * Long.BYTES).asLongBuffer();
+            position += (long) capacity * Long.BYTES;
+            hashes = map(channel, position, (long) capacity * Integer.BYTES).asIntBuffer();
+            position += (long) capacity * Integer.BYTES;
+            records = map(channel, position, Files.size(path) - position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File region of " + length + " bytes exceeds the mapping limit of "
+                    + Integer.MAX_VALUE + " bytes (2 GB)");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return a serialized value, or null if there is no such key
+     */
+    ByteBuffer get(byte[] keyBytes) {
+        int hash = hash(keyBytes);
+        for (int i = hash & mask; offsets.get(i) != EMPTY; i = (i + 1) & mask) {
+            if (hashes.get(i) == hash && keyEquals((int) offsets.get(i), keyBytes)) {
+                return valueOf((int) offsets.get(i));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Passes every key and value to a consumer.
+     */
+    void forEach(BiConsumer<byte[], ByteBuffer> consumer) {
+        for (int i = 0; i <= mask; i++) {
+            long offset = offsets.get(i);
+            if (offset != EMPTY) {
+                byte[] key = new byte[records.getInt((int) offset)];
+                records.get((int) offset + RECORD_HEADER_SIZE, key);
+                consumer.accept(key, valueOf((int) offset));
+            }
+        }
+    }
+
+    private boolean keyEquals(int offset, byte[] keyBytes) {
+        if (records.getInt(offset) != keyBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (records.get(offset + RECORD_HEADER_SIZE + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer valueOf(int offset) {
+        int keyLength = records.getInt(offset);
+        int valueLength = records.getInt(offset + Integer.BYTES);
+        return records.slice(offset + RECORD_HEADER_SIZE + keyLength, valueLength);
+    }
+}
@@ -0,0 +1,355 @@
+package com.bobocode.cs;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link OffHeapHashTable} is an implementation of {@link Map} interface that stores its entries outside the Java heap,
+ * in direct {@link ByteBuffer}s. Keys and values are converted to bytes using {@link Serializer}s, so the garbage
+ * collector does not see the entries at all, and GC pauses do not grow with the number of entries.
+ * <p>
+ * Entries are appended to fixed-size pages as [key length, value length, key bytes, value bytes] records. An entry is
+ * found using an open-addressing index (linear probing with backward shift deletion), that keeps an entry address and
+ * a key hash code in two direct buffers. An update or a removal leaves the old record in a page. Once the garbage takes
+ * more space than live entries, all live entries are copied to new pages (compacted).
+ * <p>
+ * The table should be closed using {@link OffHeapHashTable#close()} when it is not needed anymore. Closing frees the
+ * memory of all pages and index buffers right away, using {@link Unsafe#invokeCleaner(ByteBuffer)}, instead of waiting
+ * for the garbage collector to run their cleaners. Pages dropped by compaction and index buffers replaced by a resize
+ * are freed the same way. Any method called after closing throws {@link IllegalStateException}.
+ * <p>
+ * Null keys and null values are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class OffHeapHashTable<K, V> implements Map<K, V>, AutoCloseable {
+    static final int DEFAULT_PAGE_SIZE = 1 << 26;
+    private static final int DEFAULT_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 27;
+    private static final float LOAD_FACTOR = 0.65f;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final long EMPTY = 0;
+    private static final Unsafe UNSAFE = unsafe();
+
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final int pageSize;
+    private List<ByteBuffer> pages = new ArrayList<>();
+    private int writeOffset;
+    private ByteBuffer addressBuffer;
+    private ByteBuffer hashBuffer;
+    private LongBuffer addresses;
+    private IntBuffer hashes;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private long liveBytes;
+    private long garbageBytes;
+    private boolean closed;
+
+    public OffHeapHashTable(Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this(keySerializer, valueSerializer, DEFAULT_PAGE_SIZE);
+    }
+
+    OffHeapHashTable(Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        this.keySerializer = Objects.requireNonNull(keySerializer);
+        this.valueSerializer = Objects.requireNonNull(valueSerializer);
+        this.pageSize = pageSize;
+        allocateIndex(DEFAULT_INDEX_CAPACITY);
+    }
+
+    private void allocateIndex(int capacity) {
+        if (capacity > MAX_INDEX_CAPACITY) {
+            throw new IllegalStateException("The table cannot hold more than " + resizeThreshold + " entries");
+        }
+        addressBuffer = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        hashBuffer = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+        addresses = addressBuffer.asLongBuffer();
+        hashes = hashBuffer.asIntBuffer();
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static Unsafe unsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Frees the memory of a direct buffer right away. The buffer must not be accessed after that.
+     */
+    private static void free(ByteBuffer buffer) {
+        UNSAFE.invokeCleaner(buffer);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkOpen();
+        Objects.requireNonNull(value);
+        byte[] keyBytes = keySerializer.serialize(key);
+        int hash = hash(key);
+        int slot = findSlot(hash, keyBytes);
+        byte[] valueBytes = valueSerializer.serialize(value);
+        long address = append(keyBytes, valueBytes);
+        V oldValue = null;
+        if (slot >= 0) {
+            long oldAddress = addresses.get(slot);
+            oldValue = readValue(oldAddress);
+            markGarbage(oldAddress);
+            addresses.put(slot, address);
+        } else {
+            int i = hash & mask;
+            while (addresses.get(i) != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            addresses.put(i, address);
+            hashes.put(i, hash);
+            if (++size > resizeThreshold) {
+                resizeIndex();
+            }
+        }
+        compactIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        checkOpen();
+        int slot = findSlot(hash(key), keySerializer.serialize(key));
+        return slot < 0 ? null : readValue(addresses.get(slot));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        checkOpen();
+        return findSlot(hash(key), keySerializer.serialize(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        checkOpen();
+        for (int i = 0; i <= mask; i++) {
+            long address = addresses.get(i);
+            if (address != EMPTY && Objects.equals(readValue(address), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        checkOpen();
+        int slot = findSlot(hash(key), keySerializer.serialize(key));
+        if (slot < 0) {
+            return null;
+        }
+        long address = addresses.get(slot);
+        V removedValue = readValue(address);
+        markGarbage(address);
+        shiftBackFrom(slot);
+        size--;
+        compactIfNeeded();
+        return removedValue;
+    }
+
+    /**
+     * Frees the memory of all pages and index buffers right away. The table cannot be used after it is closed, and
+     * closing it again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pages.forEach(OffHeapHashTable::free);
+        free(addressBuffer);
+        free(hashBuffer);
+        pages = null;
+        addressBuffer = null;
+        hashBuffer = null;
+        addresses = null;
+        hashes = null;
+    }
+
+    /**
+     * @return a number of bytes allocated outside the heap
+     */
+    public long offHeapBytes() {
+        checkOpen();
+        long bytes = (long) (mask + 1) * (Long.BYTES + Integer.BYTES);
+        for (ByteBuffer page : pages) {
+            bytes += page.capacity();
+        }
+        return bytes;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The table is closed");
+        }
+    }
+
+    private int findSlot(int hash, byte[] keyBytes) {
+        for (int i = hash & mask; addresses.get(i) != EMPTY; i = (i + 1) & mask) {
+            if (hashes.get(i) == hash && keyEquals(addresses.get(i), keyBytes)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void shiftBackFrom(int gap) {
+        for (int i = (gap + 1) & mask; addresses.get(i) != EMPTY; i = (i + 1) & mask) {
+            int ideal = hashes.get(i) & mask;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                addresses.put(gap, addresses.get(i));
+                hashes.put(gap, hashes.get(i));
+                gap = i;
+            }
+        }
+        addresses.put(gap, EMPTY);
+    }
+
+    private void resizeIndex() {
+        ByteBuffer oldAddressBuffer = addressBuffer;
+        ByteBuffer oldHashBuffer = hashBuffer;
+        LongBuffer oldAddresses = addresses;
+        IntBuffer oldHashes = hashes;
+        allocateIndex((mask + 1) << 1);
+        for (int i = 0; i < oldAddresses.capacity(); i++) {
+            long address = oldAddresses.get(i);
+            if (address != EMPTY) {
+                int j = oldHashes.get(i) & mask;
+                while (addresses.get(j) != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                addresses.put(j, address);
+                hashes.put(j, oldHashes.get(i));
+            }
+        }
+        free(oldAddressBuffer);
+        free(oldHashBuffer);
+    }
+
+    /**
+     * Writes a record to the current page, or to a new page if it does not fit. An address consists of a page number
+     * (high 32 bits) and an offset inside the page (low 32 bits), and is shifted by one, so zero means an empty slot.
+     */
+    private long append(byte[] keyBytes, byte[] valueBytes) {
+        int recordSize = RECORD_HEADER_SIZE + keyBytes.length + valueBytes.length;
+        if (pages.isEmpty() || writeOffset + recordSize > pages.get(pages.size() - 1).capacity()) {
+            pages.add(ByteBuffer.allocateDirect(Math.max(pageSize, recordSize)));
+            writeOffset = 0;
+        }
+        int pageNumber = pages.size() - 1;
+        ByteBuffer page = pages.get(pageNumber);
+        page.putInt(writeOffset, keyBytes.length);
+        page.putInt(writeOffset + Integer.BYTES, valueBytes.length);
+        page.put(writeOffset + RECORD_HEADER_SIZE, keyBytes);
+        page.put(writeOffset + RECORD_HEADER_SIZE + keyBytes.length, valueBytes);
+        long address = ((long) pageNumber << 32 | writeOffset) + 1;
+        writeOffset += recordSize;
+        liveBytes += recordSize;
+        return address;
+    }
+
+    private ByteBuffer pageOf(long address) {
+        return pages.get((int) ((address - 1) >>> 32));
+    }
+
+    private static int offsetOf(long address) {
+        return (int) (address - 1);
+    }
+
+    private boolean keyEquals(long address, byte[] keyBytes) {
+        ByteBuffer page = pageOf(address);
+        int offset = offsetOf(address);
+        if (page.getInt(offset) != keyBytes.length) {
+            return false;
+        }
+        int keyOffset = offset + RECORD_HEADER_SIZE;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (page.get(keyOffset + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private V readValue(long address) {
+        ByteBuffer page = pageOf(address);
+        int offset = offsetOf(address);
+        int keyLength = page.getInt(offset);
+        int valueLength = page.getInt(offset + Integer.BYTES);
+        return valueSerializer.deserialize(page.slice(offset + RECORD_HEADER_SIZE + keyLength, valueLength));
+    }
+
+    private int recordSize(long address) {
+        ByteBuffer page = pageOf(address);
+        int offset = offsetOf(address);
+        return RECORD_HEADER_SIZE + page.getInt(offset) + page.getInt(offset + Integer.BYTES);
+    }
+
+    private void markGarbage(long address) {
+        int recordSize = recordSize(address);
+        liveBytes -= recordSize;
+        garbageBytes += recordSize;
+    }
+
+    /**
+     * Copies live records to new pages once the garbage takes more space than live records and at least one page.
+     */
+    private void compactIfNeeded() {
+        if (garbageBytes <= liveBytes || garbageBytes < pageSize) {
+            return;
+        }
+        List<ByteBuffer> oldPages = pages;
+        pages = new ArrayList<>();
+        liveBytes = 0;
+        garbageBytes = 0;
+        for (int i = 0; i <= mask; i++) {
+            long address = addresses.get(i);
+            if (address != EMPTY) {
+                ByteBuffer page = oldPages.get((int) ((address - 1) >>> 32));
+                int offset = offsetOf(address);
+                byte[] keyBytes = new byte[page.getInt(offset)];
+                byte[] valueBytes = new byte[page.getInt(offset + Integer.BYTES)];
+                page.get(offset + RECORD_HEADER_SIZE, keyBytes);
+                page.get(offset + RECORD_HEADER_SIZE + keyBytes.length, valueBytes);
+                addresses.put(i, append(keyBytes, valueBytes));
+            }
+        }
+        oldPages.forEach(OffHeapHashTable::free);
+    }
+}
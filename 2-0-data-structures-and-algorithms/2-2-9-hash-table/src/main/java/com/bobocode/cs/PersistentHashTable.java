@@ -0,0 +1,281 @@
+package com.bobocode.cs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * {@link PersistentHashTable} is an implementation of {@link Map} interface that stores its entries in a directory, so
+ * they survive a restart or a crash of the process. Keys and values are converted to bytes using {@link Serializer}s.
+ * <p>
+ * The table consists of three parts:
+ * <ul>
+ *     <li>a checkpoint, which is an immutable {@link MappedHashFile}. It is memory-mapped on open, so entries are read
+ *     lazily by the operating system instead of being loaded upfront</li>
+ *     <li>an in-memory overlay, which keeps the entries changed since the checkpoint, and markers of removed keys</li>
+ *     <li>a {@link WriteAheadLog} that receives every change before it is applied to the overlay</li>
+ * </ul>
+ * When the overlay grows bigger than a checkpoint threshold, all the entries are written to a new checkpoint file,
+ * which atomically replaces the old one, and the log is cleared. On open, the log is replayed on top of the checkpoint.
+ * Replaying is idempotent, so a crash between replacing the checkpoint and clearing the log is safe.
+ * <p>
+ * A change is durable once the log is forced to the disk. {@link CommitMode#EVERY_OPERATION} does it on every
+ * {@link PersistentHashTable#put(Object, Object)} and {@link PersistentHashTable#remove(Object)}.
+ * {@link CommitMode#GROUP} forces a group of changes with a single fsync, when the group is full or when
+ * {@link PersistentHashTable#commit()} is called. It is much faster, but the last uncommitted changes are lost if the
+ * process crashes.
+ * <p>
+ * Null keys and null values are not supported. The table is not thread-safe.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class PersistentHashTable<K, V> implements Map<K, V>, AutoCloseable {
+    static final String DATA_FILE = "table.dat";
+    static final String LOG_FILE = "table.wal";
+    static final int DEFAULT_CHECKPOINT_THRESHOLD = 1 << 16;
+    static final int GROUP_SIZE = 256;
+    private static final Object REMOVED = new Object();
+
+    private final Path directory;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final CommitMode commitMode;
+    private final int checkpointThreshold;
+    private final WriteAheadLog log;
+    private final HashMap<K, Object> overlay = new HashMap<>();
+    private MappedHashFile checkpoint;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Defines when changes are forced to the disk.
+     */
+    public enum CommitMode {
+        /**
+         * Every change is forced to the disk before a method returns.
+         */
+        EVERY_OPERATION,
+        /**
+         * Changes are forced to the disk in groups of {@link PersistentHashTable#GROUP_SIZE}, or on
+         * {@link PersistentHashTable#commit()} and {@link PersistentHashTable#close()}.
+         */
+        GROUP
+    }
+
+    public PersistentHashTable(Path directory, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                               CommitMode commitMode) {
+        this(directory, keySerializer, valueSerializer, commitMode, DEFAULT_CHECKPOINT_THRESHOLD);
+    }
+
+    PersistentHashTable(Path directory, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                        CommitMode commitMode, int checkpointThreshold) {
+        this.directory = Objects.requireNonNull(directory);
+        this.keySerializer = Objects.requireNonNull(keySerializer);
+        this.valueSerializer = Objects.requireNonNull(valueSerializer);
+        this.commitMode = Objects.requireNonNull(commitMode);
+        if (checkpointThreshold <= 0) {
+            throw new IllegalArgumentException("Checkpoint threshold should be positive");
+        }
+        this.checkpointThreshold = checkpointThreshold;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Path dataFile = directory.resolve(DATA_FILE);
+        if (Files.exists(dataFile)) {
+            checkpoint = new MappedHashFile(dataFile);
+            size = checkpoint.size();
+        }
+        log = new WriteAheadLog(directory.resolve(LOG_FILE));
+        log.replay(entry -> {
+            K key = keySerializer.deserialize(ByteBuffer.wrap(entry.key()));
+            if (entry.operation() == WriteAheadLog.PUT) {
+                apply(key, valueSerializer.deserialize(ByteBuffer.wrap(entry.value())));
+            } else {
+                apply(key, REMOVED);
+            }
+        });
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkOpen();
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        log.append(WriteAheadLog.PUT, keySerializer.serialize(key), valueSerializer.serialize(value));
+        V oldValue = apply(key, value);
+        afterChange();
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        checkOpen();
+        Objects.requireNonNull(key);
+        return find(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        checkOpen();
+        for (Object overlayValue : overlay.values()) {
+            if (overlayValue.equals(value)) {
+                return true;
+            }
+        }
+        if (checkpoint != null) {
+            boolean[] found = {false};
+            checkpoint.forEach((keyBytes, valueBytes) -> {
+                if (!found[0] && valueSerializer.deserialize(valueBytes).equals(value)
+                        && !overlay.containsKey(keySerializer.deserialize(ByteBuffer.wrap(keyBytes)))) {
+                    found[0] = true;
+                }
+            });
+            return found[0];
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        checkOpen();
+        Objects.requireNonNull(key);
+        if (find(key) == null) {
+            return null;
+        }
+        log.append(WriteAheadLog.REMOVE, keySerializer.serialize(key), null);
+        V oldValue = apply(key, REMOVED);
+        afterChange();
+        return oldValue;
+    }
+
+    /**
+     * Forces all the changes made so far to the disk.
+     */
+    public void commit() {
+        checkOpen();
+        log.commit();
+    }
+
+    /**
+     * Writes all the entries to a new checkpoint file and clears the write-ahead log. The renamed checkpoint is made
+     * durable by forcing the directory before the log is truncated, so a crash never loses both of them.
+     */
+    public void checkpoint() {
+        checkOpen();
+        log.commit();
+        Path dataFile = directory.resolve(DATA_FILE);
+        Path tempFile = directory.resolve(DATA_FILE + ".tmp");
+        MappedHashFile oldCheckpoint = checkpoint;
+        MappedHashFile.write(tempFile, size, consumer -> {
+            if (oldCheckpoint != null) {
+                oldCheckpoint.forEach((keyBytes, valueBytes) -> {
+                    if (!overlay.containsKey(keySerializer.deserialize(ByteBuffer.wrap(keyBytes)))) {
+                        byte[] value = new byte[valueBytes.remaining()];
+                        valueBytes.get(value);
+                        consumer.accept(keyBytes, value);
+                    }
+                });
+            }
+            overlay.forEach((key, value) -> {
+                if (value != REMOVED) {
+                    consumer.accept(keySerializer.serialize(key), valueSerializer.serialize(valueOf(value)));
+                }
+            });
+        });
+        try {
+            Files.move(tempFile, dataFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                directoryChannel.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        checkpoint = new MappedHashFile(dataFile);
+        overlay.clear();
+        log.reset();
+    }
+
+    /**
+     * Commits all the changes and closes the log. Any method called after that throws {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            log.close();
+            checkpoint = null;
+            overlay.clear();
+            closed = true;
+        }
+    }
+
+    private V find(K key) {
+        Object value = overlay.get(key);
+        if (value != null) {
+            return value == REMOVED ? null : valueOf(value);
+        }
+        if (checkpoint != null) {
+            ByteBuffer valueBytes = checkpoint.get(keySerializer.serialize(key));
+            if (valueBytes != null) {
+                return valueSerializer.deserialize(valueBytes);
+            }
+        }
+        return null;
+    }
+
+    private V apply(K key, Object value) {
+        V oldValue = find(key);
+        overlay.put(key, value);
+        if (oldValue == null && value != REMOVED) {
+            size++;
+        } else if (oldValue != null && value == REMOVED) {
+            size--;
+        }
+        return oldValue;
+    }
+
+    private void afterChange() {
+        if (commitMode == CommitMode.EVERY_OPERATION || log.pendingRecords() >= GROUP_SIZE) {
+            log.commit();
+        }
+        if (overlay.size() >= checkpointThreshold) {
+            checkpoint();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(Object value) {
+        return (V) value;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The table is closed");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link Serializer} converts objects to bytes and back, so they can be stored outside the Java heap. When it is used
+ * for keys, equal keys must always produce the same bytes, because stored keys are compared byte by byte.
+ *
+ * @param <T> a type of serialized objects
+ */
+public interface Serializer<T> {
+    Serializer<String> STRING = new Serializer<>() {
+        @Override
+        public byte[] serialize(String value) {
+            return value.getBytes(UTF_8);
+        }
+
+        @Override
+        public String deserialize(ByteBuffer bytes) {
+            byte[] array = new byte[bytes.remaining()];
+            bytes.get(array);
+            return new String(array, UTF_8);
+        }
+    };
+
+    Serializer<Long> LONG = new Serializer<>() {
+        @Override
+        public byte[] serialize(Long value) {
+            return ByteBuffer.allocate(Long.BYTES).putLong(0, value).array();
+        }
+
+        @Override
+        public Long deserialize(ByteBuffer bytes) {
+            return bytes.getLong();
+        }
+    };
+
+    Serializer<Integer> INTEGER = new Serializer<>() {
+        @Override
+        public byte[] serialize(Integer value) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(0, value).array();
+        }
+
+        @Override
+        public Integer deserialize(ByteBuffer bytes) {
+            return bytes.getInt();
+        }
+    };
+
+    /**
+     * @param value a non-null value
+     * @return a serialized value
+     */
+    byte[] serialize(T value);
+
+    /**
+     * @param bytes a buffer that contains exactly the bytes returned by {@link Serializer#serialize(Object)}. It may
+     *              be freed once the method returns, so the result must not keep a reference to it
+     * @return a deserialized value
+     */
+    T deserialize(ByteBuffer bytes);
+}
@@ -0,0 +1,152 @@
+package com.bobocode.cs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * {@link WriteAheadLog} is an append-only file of mutations used by {@link PersistentHashTable}. Every record is
+ * [operation, key length, value length, key bytes, value bytes, CRC32 checksum]. Records are collected in a buffer and
+ * written to the file by {@link WriteAheadLog#commit()}, which also forces them to the disk (fsync).
+ * <p>
+ * A crash can leave a partially written record at the end of the file. {@link WriteAheadLog#replay(Consumer)} stops
+ * at the first incomplete or corrupted record and truncates the file there.
+ */
+class WriteAheadLog implements AutoCloseable {
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+    private static final int RECORD_HEADER_SIZE = 1 + 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+    private int pendingRecords;
+
+    /**
+     * A record read from the log. A value is null for a removal.
+     */
+    record Entry(byte operation, byte[] key, byte[] value) {
+    }
+
+    WriteAheadLog(Path path) {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads all valid records, passes them to a consumer, and truncates a torn tail.
+     */
+    void replay(Consumer<Entry> consumer) {
+        try {
+            ByteBuffer log = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            // a single read may return fewer bytes than requested
+            while (log.hasRemaining()) {
+                if (channel.read(log, log.position()) < 0) {
+                    break;
+                }
+            }
+            log.flip();
+            long validEnd = 0;
+            while (log.remaining() >= RECORD_HEADER_SIZE) {
+                int start = log.position();
+                byte operation = log.get();
+                int keyLength = log.getInt();
+                int valueLength = log.getInt();
+                if ((operation != PUT && operation != REMOVE) || keyLength < 0 || valueLength < 0
+                        || log.remaining() < (long) keyLength + valueLength + Integer.BYTES) {
+                    break;
+                }
+                byte[] key = new byte[keyLength];
+                byte[] value = new byte[valueLength];
+                log.get(key).get(value);
+                CRC32 crc = new CRC32();
+                crc.update(log.array(), start, log.position() - start);
+                if (log.getInt() != (int) crc.getValue()) {
+                    break;
+                }
+                validEnd = log.position();
+                consumer.accept(new Entry(operation, key, operation == PUT ? value : null));
+            }
+            channel.truncate(validEnd);
+            channel.position(validEnd);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void append(byte operation, byte[] key, byte[] value) {
+        byte[] valueBytes = value == null ? new byte[0] : value;
+        int recordSize = RECORD_HEADER_SIZE + key.length + valueBytes.length + Integer.BYTES;
+        if (buffer.remaining() < recordSize) {
+            ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() << 1, buffer.position() + recordSize));
+            buffer.flip();
+            buffer = newBuffer.put(buffer);
+        }
+        int start = buffer.position();
+        buffer.put(operation).putInt(key.length).putInt(valueBytes.length).put(key).put(valueBytes);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, buffer.position() - start);
+        buffer.putInt((int) crc.getValue());
+        pendingRecords++;
+    }
+
+    /**
+     * @return a number of appended records that are not committed yet
+     */
+    int pendingRecords() {
+        return pendingRecords;
+    }
+
+    /**
+     * Writes all appended records to the file and forces them to the disk.
+     */
+    void commit() {
+        if (pendingRecords == 0) {
+            return;
+        }
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            channel.force(false);
+            pendingRecords = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes all records. It is called after a checkpoint, when all the mutations are stored in a data file.
+     */
+    void reset() {
+        try {
+            buffer.clear();
+            pendingRecords = 0;
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            commit();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A multi-threaded JMH benchmark that compares {@link ConcurrentHashTable} with a table guarded by a single global
+ * lock and with {@link ConcurrentHashMap}. Every operation is a get with a probability of 90% and a put otherwise.
+ * {@link #main(String[])} runs it with 1, 2, 4, ... threads up to the number of available processors, so the scores
+ * show how throughput scales with the number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentHashTableBenchmark {
+    private static final int KEY_COUNT = 100_000;
+    private static final int PUT_PERCENTAGE = 10;
+
+    private Integer[] keys;
+    private ConcurrentHashTable<Integer, Integer> concurrentHashTable;
+    private LinearProbingHashTable<Integer, Integer> globalLockHashTable;
+    private ConcurrentHashMap<Integer, Integer> concurrentHashMap;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[KEY_COUNT];
+        concurrentHashTable = new ConcurrentHashTable<>();
+        globalLockHashTable = new LinearProbingHashTable<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i;
+            concurrentHashTable.put(i, i);
+            globalLockHashTable.put(i, i);
+            concurrentHashMap.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentHashTable() {
+        var random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_COUNT)];
+        return random.nextInt(100) < PUT_PERCENTAGE
+                ? concurrentHashTable.put(key, key)
+                : concurrentHashTable.get(key);
+    }
+
+    @Benchmark
+    public Integer globalLockHashTable() {
+        var random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_COUNT)];
+        synchronized (globalLockHashTable) {
+            return random.nextInt(100) < PUT_PERCENTAGE
+                    ? globalLockHashTable.put(key, key)
+                    : globalLockHashTable.get(key);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentHashMap() {
+        var random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_COUNT)];
+        return random.nextInt(100) < PUT_PERCENTAGE
+                ? concurrentHashMap.put(key, key)
+                : concurrentHashMap.get(key);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentHashTableBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("ConcurrentHashTable Test")
+class ConcurrentHashTableTest {
+    private static final int THREADS = 8;
+
+    private ConcurrentHashTable<String, Integer> hashTable = new ConcurrentHashTable<>();
+
+    @Test
+    @DisplayName("putIfAbsent does not override an existing value")
+    void putIfAbsent() {
+        assertThat(hashTable.putIfAbsent("madmax", 833)).isNull();
+        assertThat(hashTable.putIfAbsent("madmax", 900)).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+    }
+
+    @Test
+    @DisplayName("compute creates, updates and removes a mapping")
+    void compute() {
+        assertThat(hashTable.compute("madmax", (key, value) -> value == null ? 1 : value + 1)).isEqualTo(1);
+        assertThat(hashTable.compute("madmax", (key, value) -> value == null ? 1 : value + 1)).isEqualTo(2);
+        assertThat(hashTable.compute("madmax", (key, value) -> null)).isNull();
+        assertThat(hashTable.containsKey("madmax")).isFalse();
+        assertThat(hashTable.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("null keys and values are not supported")
+    void nullKeysAndValues() {
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put("madmax", null));
+    }
+
+    @Test
+    @DisplayName("a table with a single segment works")
+    void singleSegment() {
+        var table = new ConcurrentHashTable<Integer, Integer>(1);
+        IntStream.range(0, 1_000).forEach(i -> table.put(i, i));
+
+        assertThat(table.size()).isEqualTo(1_000);
+        assertThat(table.get(999)).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.HashMap")
+    void randomOperations() {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) > 0) {
+                assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+        assertThat(table.containsValue(expected.values().iterator().next())).isTrue();
+    }
+
+    @Test
+    @DisplayName("concurrent compute calls do not lose updates")
+    void concurrentCompute() throws Exception {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                table.compute(i % 100, (key, value) -> value == null ? 1 : value + 1);
+            }
+        });
+
+        assertThat(table.size()).isEqualTo(100);
+        IntStream.range(0, 100).forEach(key -> assertThat(table.get(key)).isEqualTo(THREADS * 100));
+    }
+
+    @Test
+    @DisplayName("only one of concurrent putIfAbsent calls creates a mapping")
+    void concurrentPutIfAbsent() throws Exception {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+        var created = new AtomicInteger();
+
+        runConcurrently(() -> {
+            for (int key = 0; key < 10_000; key++) {
+                if (table.putIfAbsent(key, key) == null) {
+                    created.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(created.get()).isEqualTo(10_000);
+        assertThat(table.size()).isEqualTo(10_000);
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = IntStream.range(0, THREADS)
+                    .mapToObj(i -> executor.submit(task))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares chained {@link HashTable} with open-addressing tables and {@link HashMap}. Every
+ * benchmark operation fills (or queries) the whole table, so the score is a time per {@code size} operations.
+ * {@link #main(String[])} runs it with a GC profiler: "gc.alloc.rate.norm" of the put benchmarks divided by
+ * {@code size} gives the number of allocated bytes per entry.
+ * <p>
+ * Please note that {@link HashTable} benchmarks require a completed exercise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashTableBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] keys;
+    private LinearProbingHashTable<Integer, Integer> linearProbingHashTable;
+    private HashMap<Integer, Integer> hashMap;
+    private LongObjectHashTable<Integer> longObjectHashTable;
+    private IntIntHashTable intIntHashTable;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * 31;
+        }
+        linearProbingHashTable = putAllToLinearProbingHashTable();
+        hashMap = putAllToHashMap();
+        longObjectHashTable = putAllToLongObjectHashTable();
+        intIntHashTable = putAllToIntIntHashTable();
+    }
+
+    /**
+     * A filled {@link HashTable} is kept in a separate state, so the other benchmarks still work when the exercise is
+     * not completed.
+     */
+    @State(Scope.Benchmark)
+    public static class FilledHashTable {
+        private HashTable<Integer, Integer> hashTable;
+
+        @Setup
+        public void setUp(HashTableBenchmark benchmark) {
+            hashTable = benchmark.putAllToHashTable();
+        }
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> putAllToHashTable() {
+        var table = new HashTable<Integer, Integer>();
+        for (Integer key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public LinearProbingHashTable<Integer, Integer> putAllToLinearProbingHashTable() {
+        var table = new LinearProbingHashTable<Integer, Integer>();
+        for (Integer key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> putAllToHashMap() {
+        var map = new HashMap<Integer, Integer>();
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongObjectHashTable<Integer> putAllToLongObjectHashTable() {
+        var table = new LongObjectHashTable<Integer>();
+        for (Integer key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public IntIntHashTable putAllToIntIntHashTable() {
+        var table = new IntIntHashTable();
+        for (int i = 0; i < size; i++) {
+            table.put(i * 31, i);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public void getAllFromHashTable(FilledHashTable state, Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(state.hashTable.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getAllFromLinearProbingHashTable(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(linearProbingHashTable.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getAllFromHashMap(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(hashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getAllFromLongObjectHashTable(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(longObjectHashTable.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getAllFromIntIntHashTable(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(intIntHashTable.get(i * 31));
+        }
+    }
+
+    @Benchmark
+    public int putAndRemoveAllWithHashTable() {
+        var table = putAllToHashTable();
+        for (Integer key : keys) {
+            table.remove(key);
+        }
+        return table.size();
+    }
+
+    @Benchmark
+    public int putAndRemoveAllWithLinearProbingHashTable() {
+        var table = putAllToLinearProbingHashTable();
+        for (Integer key : keys) {
+            table.remove(key);
+        }
+        return table.size();
+    }
+
+    @Benchmark
+    public int putAndRemoveAllWithHashMap() {
+        var map = putAllToHashMap();
+        for (Integer key : keys) {
+            map.remove(key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int putAndRemoveAllWithLongObjectHashTable() {
+        var table = putAllToLongObjectHashTable();
+        for (Integer key : keys) {
+            table.remove(key);
+        }
+        return table.size();
+    }
+
+    @Benchmark
+    public int putAndRemoveAllWithIntIntHashTable() {
+        var table = putAllToIntIntHashTable();
+        for (int i = 0; i < size; i++) {
+            table.remove(i * 31);
+        }
+        return table.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HashTableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that samples the latency of a single put into a growing table. Sample time mode reports
+ * a histogram with percentiles (p0.99, p0.9999, p1.00), which shows the spikes caused by a full resize. Compare the
+ * tail percentiles of {@link IncrementalHashTable} with {@link HashTable} and {@link HashMap}. Every iteration starts
+ * with an empty table, and iterations are short, so a table grows to a few million entries.
+ * <p>
+ * Please note that {@link HashTable} benchmark requires a completed exercise.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class HashTablePutLatencyBenchmark {
+
+    private HashTable<Integer, Integer> hashTable;
+    private IncrementalHashTable<Integer, Integer> incrementalHashTable;
+    private HashMap<Integer, Integer> hashMap;
+    private int nextKey;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        hashTable = new HashTable<>();
+        incrementalHashTable = new IncrementalHashTable<>();
+        hashMap = new HashMap<>();
+        nextKey = 0;
+    }
+
+    @Benchmark
+    public Integer putToHashTable() {
+        return hashTable.put(nextKey, nextKey++);
+    }
+
+    @Benchmark
+    public Integer putToIncrementalHashTable() {
+        return incrementalHashTable.put(nextKey, nextKey++);
+    }
+
+    @Benchmark
+    public Integer putToHashMap() {
+        return hashMap.put(nextKey, nextKey++);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HashTablePutLatencyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
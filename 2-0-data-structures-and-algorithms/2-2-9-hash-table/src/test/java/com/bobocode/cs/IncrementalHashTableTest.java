@@ -0,0 +1,222 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IncrementalHashTable Test")
+class IncrementalHashTableTest {
+
+    private IncrementalHashTable<String, Integer> hashTable = new IncrementalHashTable<>();
+
+    static Stream<HashStrategy> hashStrategies() {
+        return Stream.of(HashStrategy.IDENTITY, HashStrategy.XOR_SHIFT, HashStrategy.FIBONACCI, HashStrategy.MURMUR3,
+                HashStrategy.seeded(42));
+    }
+
+    @Test
+    @DisplayName("put starts rehashing once the table reaches its threshold")
+    void putStartsRehashing() {
+        for (int i = 0; i < 7; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertThat(hashTable.isRehashing()).isTrue();
+        assertThat(hashTable.toString()).contains("rehashing to:");
+    }
+
+    @Test
+    @DisplayName("all entries are available while the table is being rehashed")
+    void getWhileRehashing() {
+        for (int i = 0; i < 7; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(hashTable.get("key" + i)).isEqualTo(i);
+        }
+        assertThat(hashTable.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("rehashing completes after a few operations")
+    void rehashingCompletes() {
+        for (int i = 0; i < 7; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        hashTable.get("key0");
+        hashTable.get("key1");
+
+        assertThat(hashTable.isRehashing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("put updates an entry that was not moved to the new table yet")
+    void putUpdatesNotMovedEntry() {
+        for (int i = 0; i < 7; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(hashTable.put("key" + i, -i)).isEqualTo(i);
+        }
+        assertThat(hashTable.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("containsValue checks both tables")
+    void containsValueWhileRehashing() {
+        for (int i = 0; i < 7; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertThat(hashTable.containsValue(0)).isTrue();
+        assertThat(hashTable.containsValue(6)).isTrue();
+        assertThat(hashTable.containsValue(7)).isFalse();
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.HashMap")
+    void randomOperations() {
+        var table = new IncrementalHashTable<Integer, Integer>();
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(50_000);
+            if (random.nextInt(3) > 0) {
+                assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hashStrategies")
+    @DisplayName("every hash strategy returns an index in array bounds")
+    void hashStrategyIndexInBounds(HashStrategy strategy) {
+        var random = new Random(42);
+
+        for (int capacity = 1; capacity <= 1024; capacity <<= 1) {
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(strategy.indexFor(random.nextInt(), capacity)).isBetween(0, capacity - 1);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("hashStrategies")
+    @DisplayName("a table works with every hash strategy")
+    void putAndGetWithHashStrategy(HashStrategy strategy) {
+        var table = new IncrementalHashTable<Integer, Integer>(8, strategy);
+        IntStream.range(0, 10_000).forEach(i -> table.put(i, i));
+
+        assertThat(table.size()).isEqualTo(10_000);
+        IntStream.range(0, 10_000).forEach(i -> assertThat(table.get(i)).isEqualTo(i));
+    }
+
+    @Test
+    @DisplayName("hash codes that collide with one seed are spread with another seed")
+    void seededHashStrategy() {
+        HashStrategy first = HashStrategy.seeded(1);
+        HashStrategy second = HashStrategy.seeded(2);
+        int capacity = 1024;
+
+        int[] colliding = IntStream.range(0, 100_000).filter(h -> first.indexFor(h, capacity) == 0).toArray();
+
+        assertThat(colliding).hasSizeGreaterThan(50);
+        assertThat(HashStrategy.seeded(1).indexFor(colliding[0], capacity)).isZero();
+        assertThat(IntStream.of(colliding).map(h -> second.indexFor(h, capacity)).distinct().count())
+                .isGreaterThan(colliding.length / 2);
+    }
+
+    @Test
+    @DisplayName("a long chain of comparable keys is converted into a tree")
+    void treeifyLongChain() {
+        var keys = collidingStrings(4);
+        keys.forEach(key -> hashTable.put(key, key.length()));
+
+        var stats = hashTable.stats();
+
+        assertThat(stats.treeBinCount()).isEqualTo(1);
+        assertThat(stats.maxChainLength()).isEqualTo(keys.size());
+        keys.forEach(key -> assertThat(hashTable.get(key)).isEqualTo(key.length()));
+        assertThat(hashTable.get("AaAaAaAX")).isNull();
+    }
+
+    @Test
+    @DisplayName("a tree is converted back into a chain when most of its keys are removed")
+    void untreeifyShortTree() {
+        var keys = collidingStrings(4);
+        keys.forEach(key -> hashTable.put(key, key.length()));
+
+        keys.subList(0, 12).forEach(hashTable::remove);
+
+        assertThat(hashTable.stats().treeBinCount()).isZero();
+        keys.subList(12, 16).forEach(key -> assertThat(hashTable.get(key)).isEqualTo(key.length()));
+    }
+
+    @Test
+    @DisplayName("a long chain of not comparable keys stays a chain")
+    void notComparableKeysAreNotTreeified() {
+        var table = new IncrementalHashTable<Object, Integer>();
+        var keys = IntStream.range(0, 16).mapToObj(i -> new SameHashKey()).toList();
+        keys.forEach(key -> table.put(key, 1));
+
+        assertThat(table.stats().treeBinCount()).isZero();
+        keys.forEach(key -> assertThat(table.containsKey(key)).isTrue());
+    }
+
+    @Test
+    @DisplayName("stats report size, load factor, chain length histogram and probe counts")
+    void stats() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        hashTable.get("madmax");
+
+        var stats = hashTable.stats();
+
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.capacity()).isEqualTo(8);
+        assertThat(stats.loadFactor()).isEqualTo(0.25);
+        assertThat(IntStream.of(stats.chainLengthHistogram()).sum()).isEqualTo(8);
+        assertThat(stats.lookupCount()).isEqualTo(3);
+        assertThat(stats.averageProbeCount()).isPositive();
+        stats.chainLengthHistogram()[0] = 100;
+        assertThat(stats.chainLengthHistogram()[0]).isNotEqualTo(100);
+    }
+
+    /**
+     * "Aa" and "BB" have the same hash code, so all 2^blocks combinations of them collide.
+     */
+    private static List<String> collidingStrings(int blocks) {
+        List<String> strings = List.of("");
+        for (int i = 0; i < blocks; i++) {
+            strings = strings.stream()
+                    .flatMap(prefix -> Stream.of(prefix + "Aa", prefix + "BB"))
+                    .toList();
+        }
+        return strings;
+    }
+
+    private static class SameHashKey {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IntIntHashTable Test")
+class IntIntHashTableTest {
+
+    private IntIntHashTable hashTable = new IntIntHashTable(0, -1);
+
+    @Test
+    @DisplayName("get returns a missing value when there is no such key")
+    void getMissingKey() {
+        assertThat(hashTable.get(42)).isEqualTo(-1);
+        assertThat(hashTable.remove(42)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("put returns a missing value for a new key and the old value for an existing one")
+    void put() {
+        assertThat(hashTable.put(42, 1)).isEqualTo(-1);
+        assertThat(hashTable.put(42, 2)).isEqualTo(1);
+        assertThat(hashTable.get(42)).isEqualTo(2);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("key 0 is supported")
+    void zeroKey() {
+        assertThat(hashTable.put(0, 7)).isEqualTo(-1);
+        assertThat(hashTable.get(0)).isEqualTo(7);
+        assertThat(hashTable.containsValue(7)).isTrue();
+
+        assertThat(hashTable.remove(0)).isEqualTo(7);
+        assertThat(hashTable.containsKey(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.HashMap")
+    void randomOperations() {
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertThat(hashTable.put(key, i)).isEqualTo(expected.getOrDefault(key, -1));
+                expected.put(key, i);
+            } else {
+                assertThat(hashTable.remove(key)).isEqualTo(expected.getOrDefault(key, -1));
+                expected.remove(key);
+            }
+        }
+
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(hashTable.get(key)).isEqualTo(value));
+    }
+}
@@ -0,0 +1,106 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("LinearProbingHashTable Test")
+class LinearProbingHashTableTest {
+
+    private Map<String, Integer> hashTable = new LinearProbingHashTable<>();
+
+    @Test
+    @DisplayName("put creates new entry and returns null")
+    void putNewEntry() {
+        var previous = hashTable.put("madmax", 833);
+
+        assertThat(previous).isNull();
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put updates the value and returns the previous one")
+    void putExistingKey() {
+        hashTable.put("madmax", 833);
+
+        var previous = hashTable.put("madmax", 900);
+
+        assertThat(previous).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(900);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get returns a value when keys have the same hash code")
+    void getWithCollisions() {
+        hashTable.put("AaAa", 1);
+        hashTable.put("BBBB", 2);
+
+        assertThat(hashTable.get("AaAa")).isEqualTo(1);
+        assertThat(hashTable.get("BBBB")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("remove keeps colliding keys reachable")
+    void removeWithCollisions() {
+        hashTable.put("AaAa", 1);
+        hashTable.put("BBBB", 2);
+        hashTable.put("AaBB", 3);
+
+        var removed = hashTable.remove("AaAa");
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(hashTable.containsKey("AaAa")).isFalse();
+        assertThat(hashTable.get("BBBB")).isEqualTo(2);
+        assertThat(hashTable.get("AaBB")).isEqualTo(3);
+        assertThat(hashTable.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("remove returns null when there is no such key")
+    void removeNotExistingKey() {
+        assertThat(hashTable.remove("madmax")).isNull();
+        assertThat(hashTable.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("containsValue checks all entries")
+    void containsValue() {
+        hashTable.put("madmax", 833);
+
+        assertThat(hashTable.containsValue(833)).isTrue();
+        assertThat(hashTable.containsValue(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("null keys are not supported")
+    void nullKey() {
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(null, 1));
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.HashMap")
+    void randomOperations() {
+        var table = new LinearProbingHashTable<Integer, Integer>();
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongObjectHashTable Test")
+class LongObjectHashTableTest {
+
+    private LongObjectHashTable<String> hashTable = new LongObjectHashTable<>();
+
+    @Test
+    @DisplayName("put and get work with sequential keys")
+    void putSequentialKeys() {
+        for (long key = 1; key <= 1_000; key++) {
+            hashTable.put(key, "flight-" + key);
+        }
+
+        assertThat(hashTable.size()).isEqualTo(1_000);
+        assertThat(hashTable.get(500)).isEqualTo("flight-500");
+        assertThat(hashTable.get(1_001)).isNull();
+    }
+
+    @Test
+    @DisplayName("key 0 is supported")
+    void zeroKey() {
+        assertThat(hashTable.put(0, "zero")).isNull();
+        assertThat(hashTable.containsKey(0)).isTrue();
+        assertThat(hashTable.containsValue("zero")).isTrue();
+        assertThat(hashTable.size()).isEqualTo(1);
+
+        assertThat(hashTable.remove(0)).isEqualTo("zero");
+        assertThat(hashTable.containsKey(0)).isFalse();
+        assertThat(hashTable.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("random operations give the same results as java.util.HashMap")
+    void randomOperations() {
+        var expected = new HashMap<Long, String>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertThat(hashTable.put(key, "v" + i)).isEqualTo(expected.put(key, "v" + i));
+            } else {
+                assertThat(hashTable.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(hashTable.get(key)).isEqualTo(value));
+    }
+}
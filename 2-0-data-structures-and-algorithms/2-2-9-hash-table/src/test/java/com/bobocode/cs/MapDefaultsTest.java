@@ -0,0 +1,29 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Map default methods Test")
+class MapDefaultsTest {
+
+    private Map<String, Integer> hashTable = new LinearProbingHashTable<>();
+
+    @Test
+    @DisplayName("default putIfAbsent does not override an existing value")
+    void putIfAbsent() {
+        assertThat(hashTable.putIfAbsent("madmax", 833)).isNull();
+        assertThat(hashTable.putIfAbsent("madmax", 900)).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+    }
+
+    @Test
+    @DisplayName("default compute creates, updates and removes a mapping")
+    void compute() {
+        assertThat(hashTable.compute("madmax", (key, value) -> value == null ? 1 : value + 1)).isEqualTo(1);
+        assertThat(hashTable.compute("madmax", (key, value) -> value == null ? 1 : value + 1)).isEqualTo(2);
+        assertThat(hashTable.compute("madmax", (key, value) -> null)).isNull();
+        assertThat(hashTable.containsKey("madmax")).isFalse();
+    }
+}
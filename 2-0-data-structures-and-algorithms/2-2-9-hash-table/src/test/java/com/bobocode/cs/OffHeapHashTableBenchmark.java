@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares GC cost of a big {@link OffHeapHashTable} with a heap-based chained table
+ * ({@link IncrementalHashTable}, which allocates a node per entry just like {@link HashTable}). Both tables are filled
+ * in a setup, then the benchmark performs random gets and updates, which produce short-lived garbage. Look at the
+ * "gc.time" and "gc.count" metrics reported by the GC profiler: with a big heap table every collection has to deal
+ * with all the live entries, while the off-heap entries are invisible to the collector.
+ * <p>
+ * A 50M-entry run needs several gigabytes of memory, see the JVM arguments in {@link Fork}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g", "-XX:MaxDirectMemorySize=12g"})
+public class OffHeapHashTableBenchmark {
+
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    @Param({"heap", "off-heap"})
+    private String storage;
+
+    private Map<Long, Long> table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = storage.equals("heap")
+                ? new IncrementalHashTable<>()
+                : new OffHeapHashTable<>(Serializer.LONG, Serializer.LONG);
+        for (long key = 0; key < size; key++) {
+            table.put(key, key);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (table instanceof OffHeapHashTable<Long, Long> offHeapTable) {
+            offHeapTable.close();
+        }
+        table = null;
+    }
+
+    @Benchmark
+    public Long getAndUpdate() {
+        long key = ThreadLocalRandom.current().nextLong(size);
+        Long value = table.get(key);
+        table.put(key, value + 1);
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OffHeapHashTableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
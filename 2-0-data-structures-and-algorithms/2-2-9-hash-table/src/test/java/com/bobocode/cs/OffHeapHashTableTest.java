@@ -0,0 +1,116 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("OffHeapHashTable Test")
+class OffHeapHashTableTest {
+
+    private OffHeapHashTable<String, Integer> hashTable = new OffHeapHashTable<>(Serializer.STRING, Serializer.INTEGER);
+
+    @AfterEach
+    void closeTable() {
+        hashTable.close();
+    }
+
+    @Test
+    @DisplayName("put creates new entry and returns null")
+    void putNewEntry() {
+        assertThat(hashTable.put("madmax", 833)).isNull();
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put updates the value and returns the previous one")
+    void putExistingKey() {
+        hashTable.put("madmax", 833);
+
+        assertThat(hashTable.put("madmax", 900)).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(900);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("keys with the same hash code are compared by bytes")
+    void collidingKeys() {
+        hashTable.put("AaAa", 1);
+        hashTable.put("BBBB", 2);
+
+        assertThat(hashTable.get("AaAa")).isEqualTo(1);
+        assertThat(hashTable.get("BBBB")).isEqualTo(2);
+        assertThat(hashTable.remove("AaAa")).isEqualTo(1);
+        assertThat(hashTable.get("BBBB")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("containsKey and containsValue check stored entries")
+    void contains() {
+        hashTable.put("madmax", 833);
+
+        assertThat(hashTable.containsKey("madmax")).isTrue();
+        assertThat(hashTable.containsKey("altea")).isFalse();
+        assertThat(hashTable.containsValue(833)).isTrue();
+        assertThat(hashTable.containsValue(553)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a closed table cannot be used")
+    void closedTable() {
+        hashTable.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> hashTable.get("madmax"));
+        assertThatIllegalStateException().isThrownBy(() -> hashTable.put("madmax", 833));
+    }
+
+    @Test
+    @DisplayName("close frees the off-heap memory without waiting for the garbage collector")
+    void closeFreesMemory() {
+        BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .findFirst()
+                .orElseThrow();
+        var table = new OffHeapHashTable<>(Serializer.LONG, Serializer.STRING, 1 << 20);
+        for (long i = 0; i < 10_000; i++) {
+            table.put(i, "value" + i);
+        }
+        long offHeapBytes = table.offHeapBytes();
+        long usedBefore = directPool.getMemoryUsed();
+
+        table.close();
+        table.close();
+
+        assertThat(usedBefore - directPool.getMemoryUsed()).isEqualTo(offHeapBytes);
+    }
+
+    @Test
+    @DisplayName("random operations with compaction give the same results as java.util.HashMap")
+    void randomOperations() {
+        var expected = new HashMap<Long, String>();
+        var random = new Random(42);
+
+        try (var table = new OffHeapHashTable<>(Serializer.LONG, Serializer.STRING, 4096)) {
+            for (int i = 0; i < 100_000; i++) {
+                long key = random.nextInt(5_000);
+                if (random.nextInt(3) > 0) {
+                    assertThat(table.put(key, "value" + i)).isEqualTo(expected.put(key, "value" + i));
+                } else {
+                    assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+                }
+            }
+
+            assertThat(table.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+            assertThat(table.offHeapBytes()).isLessThan(1 << 20);
+        }
+    }
+}
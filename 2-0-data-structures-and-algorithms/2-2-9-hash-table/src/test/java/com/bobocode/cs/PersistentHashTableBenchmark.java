@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.PersistentHashTable.CommitMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A JMH benchmark that compares write throughput of a {@link PersistentHashTable} that forces every change to the
+ * disk with a table that commits changes in groups of {@link PersistentHashTable#GROUP_SIZE}. The difference mostly
+ * depends on the fsync latency of the disk used for the temporary directory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PersistentHashTableBenchmark {
+    private static final int KEY_RANGE = 100_000;
+
+    @Param({"EVERY_OPERATION", "GROUP"})
+    private CommitMode commitMode;
+
+    private Path directory;
+    private PersistentHashTable<Long, Long> table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("persistent-hash-table");
+        table = new PersistentHashTable<>(directory, Serializer.LONG, Serializer.LONG, commitMode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        table.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public Long put() {
+        long key = ThreadLocalRandom.current().nextLong(KEY_RANGE);
+        return table.put(key, key);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PersistentHashTableBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
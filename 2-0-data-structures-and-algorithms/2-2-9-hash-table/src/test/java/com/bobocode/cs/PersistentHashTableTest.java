@@ -0,0 +1,153 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.PersistentHashTable.CommitMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("PersistentHashTable Test")
+class PersistentHashTableTest {
+
+    @TempDir
+    private Path directory;
+
+    private PersistentHashTable<String, Integer> open(CommitMode commitMode) {
+        return new PersistentHashTable<>(directory, Serializer.STRING, Serializer.INTEGER, commitMode);
+    }
+
+    @Test
+    @DisplayName("put, get and remove work like in a regular map")
+    void putGetRemove() {
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.EVERY_OPERATION)) {
+            assertThat(hashTable.put("madmax", 833)).isNull();
+            assertThat(hashTable.put("madmax", 900)).isEqualTo(833);
+            hashTable.put("altea", 553);
+
+            assertThat(hashTable.get("madmax")).isEqualTo(900);
+            assertThat(hashTable.containsValue(553)).isTrue();
+            assertThat(hashTable.remove("altea")).isEqualTo(553);
+            assertThat(hashTable.remove("altea")).isNull();
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CommitMode.class)
+    @DisplayName("entries survive closing and reopening a table")
+    void reopen(CommitMode commitMode) {
+        try (PersistentHashTable<String, Integer> hashTable = open(commitMode)) {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.remove("altea");
+        }
+
+        try (PersistentHashTable<String, Integer> hashTable = open(commitMode)) {
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.containsKey("altea")).isFalse();
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("committed changes are recovered from the log after a crash")
+    void recoverAfterCrash() {
+        PersistentHashTable<String, Integer> crashedTable = open(CommitMode.GROUP);
+        crashedTable.put("madmax", 833);
+        crashedTable.commit();
+        crashedTable.put("altea", 553); // not committed, the table is never closed
+
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.GROUP)) {
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.containsKey("altea")).isFalse();
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("a torn record at the end of the log is discarded")
+    void tornLogTail() throws IOException {
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.EVERY_OPERATION)) {
+            hashTable.put("madmax", 833);
+        }
+        Files.write(directory.resolve(PersistentHashTable.LOG_FILE), new byte[]{1, 0, 0, 0, 6, 0, 0},
+                StandardOpenOption.APPEND);
+
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.EVERY_OPERATION)) {
+            assertThat(hashTable.size()).isEqualTo(1);
+            hashTable.put("altea", 553);
+        }
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.EVERY_OPERATION)) {
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+        }
+    }
+
+    @Test
+    @DisplayName("checkpoint moves entries to the data file and clears the log")
+    void checkpoint() throws IOException {
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.GROUP)) {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.checkpoint();
+            hashTable.remove("madmax");
+
+            assertThat(Files.exists(directory.resolve(PersistentHashTable.DATA_FILE))).isTrue();
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+            assertThat(hashTable.containsKey("madmax")).isFalse();
+        }
+
+        try (PersistentHashTable<String, Integer> hashTable = open(CommitMode.GROUP)) {
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+            assertThat(hashTable.containsKey("madmax")).isFalse();
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("random operations with frequent checkpoints give the same results as java.util.HashMap")
+    void randomOperations() {
+        HashMap<String, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        PersistentHashTable<String, Integer> hashTable = new PersistentHashTable<>(directory, Serializer.STRING,
+                Serializer.INTEGER, CommitMode.GROUP, 100);
+        for (int i = 0; i < 20_000; i++) {
+            String key = "key" + random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                assertThat(hashTable.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(hashTable.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+            if (i % 5000 == 0) {
+                hashTable.close();
+                hashTable = new PersistentHashTable<>(directory, Serializer.STRING, Serializer.INTEGER,
+                        CommitMode.GROUP, 100);
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+        for (int i = 0; i < 1000; i++) {
+            assertThat(hashTable.get("key" + i)).isEqualTo(expected.get("key" + i));
+        }
+        hashTable.close();
+    }
+
+    @Test
+    @DisplayName("a closed table cannot be used")
+    void closedTable() {
+        PersistentHashTable<String, Integer> hashTable = open(CommitMode.EVERY_OPERATION);
+        hashTable.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> hashTable.get("madmax"));
+    }
+}
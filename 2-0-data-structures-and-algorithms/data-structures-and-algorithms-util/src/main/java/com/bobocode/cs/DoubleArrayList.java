@@ -0,0 +1,170 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link DoubleArrayList} is a resizable array of {@code double} values. It follows the contract of {@link List}, but stores
+ * primitives instead of boxed {@link Double}s, so an element takes 8 bytes, and a sequential scan reads a single
+ * contiguous array without dereferencing a pointer per element.
+ */
+public class DoubleArrayList {
+    static final int DEFAULT_CAPACITY = 10;
+
+    private double[] elements;
+    private int size;
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public DoubleArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        elements = new double[initCapacity];
+    }
+
+    /**
+     * Creates and returns an instance of {@link DoubleArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        DoubleArrayList list = new DoubleArrayList(Math.max(1, elements.length));
+        list.addAll(elements);
+        return list;
+    }
+
+    public void add(double element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    public void add(int index, double element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all the values to the end of the list with a single copy.
+     *
+     * @param values values to add
+     */
+    public void addAll(double[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public void set(int index, double element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public double getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public double getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[size - 1];
+    }
+
+    public double remove(int index) {
+        Objects.checkIndex(index, size);
+        double element = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return element;
+    }
+
+    public boolean contains(double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(elements[i], element) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Searches a sorted list for a value.
+     *
+     * @param element a value to find
+     * @return an index of the value, or {@code -(insertion point) - 1} if there is no such value
+     * @see Arrays#binarySearch(double[], int, int, double)
+     */
+    public int binarySearch(double element) {
+        return Arrays.binarySearch(elements, 0, size, element);
+    }
+
+    /**
+     * Returns a stream over the current elements. The stream reads the backing array, so the list should not be
+     * modified until the stream is consumed.
+     *
+     * @return a stream of the elements
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * @return a copy of the elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.bobocode.cs;
 
 
-public interface List<T> {
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +33,129 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Adds all the elements to the end of the list. The default implementation adds them one by one.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Inserts all the elements starting from a specific position. The default implementation inserts them one by one.
+     *
+     * @param index    a position of the first inserted element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    default void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size() + 1);
+        for (int i = 0; i < elements.length; i++) {
+            add(index + i, elements[i]);
+        }
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive). The default
+     * implementation removes them one by one.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     * @throws IndexOutOfBoundsException if the range is out of the list bounds
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all the elements that match a filter. The default implementation checks and removes them one by one.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a view of the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive). The view does
+     * not copy elements: its changes are applied to this list. The list should not be structurally modified other
+     * than through the view while the view is in use.
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if the range is out of the list bounds
+     */
+    default List<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns an iterator over the elements. The default implementation calls {@link List#get(int)} for every element,
+     * so it is efficient only for lists with constant-time index access, and it does not detect modifications of the
+     * list. Implementations should override it.
+     *
+     * @return an iterator
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a sized spliterator based on {@link List#iterator()}. It splits by copying batches of elements to arrays,
+     * which works for any list. Array-based implementations should override it to split by index ranges.
+     *
+     * @return a spliterator
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return a sequential stream of the elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel stream of the elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
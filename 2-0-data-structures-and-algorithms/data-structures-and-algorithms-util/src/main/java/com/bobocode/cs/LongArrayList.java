@@ -0,0 +1,170 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * {@link LongArrayList} is a resizable array of {@code long} values. It follows the contract of {@link List}, but stores
+ * primitives instead of boxed {@link Long}s, so an element takes 8 bytes, and a sequential scan reads a single
+ * contiguous array without dereferencing a pointer per element.
+ */
+public class LongArrayList {
+    static final int DEFAULT_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public LongArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive");
+        }
+        elements = new long[initCapacity];
+    }
+
+    /**
+     * Creates and returns an instance of {@link LongArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static LongArrayList of(long... elements) {
+        LongArrayList list = new LongArrayList(Math.max(1, elements.length));
+        list.addAll(elements);
+        return list;
+    }
+
+    public void add(long element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    public void add(int index, long element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all the values to the end of the list with a single copy.
+     *
+     * @param values values to add
+     */
+    public void addAll(long[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public void set(int index, long element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public long getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public long getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[size - 1];
+    }
+
+    public long remove(int index) {
+        Objects.checkIndex(index, size);
+        long element = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return element;
+    }
+
+    public boolean contains(long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Searches a sorted list for a value.
+     *
+     * @param element a value to find
+     * @return an index of the value, or {@code -(insertion point) - 1} if there is no such value
+     * @see Arrays#binarySearch(long[], int, int, long)
+     */
+    public int binarySearch(long element) {
+        return Arrays.binarySearch(elements, 0, size, element);
+    }
+
+    /**
+     * Returns a stream over the current elements. The stream reads the backing array, so the list should not be
+     * modified until the stream is consumed.
+     *
+     * @return a stream of the elements
+     */
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * @return a copy of the elements
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link SubList} is a view of a range of a {@link List}, returned by {@link List#subList(int, int)}. It translates
+ * indexes and delegates all the operations to the parent list.
+ * <p>
+ * Its iterator and spliterator are fail-fast. The {@link List} interface does not expose a modification counter, so
+ * a modification of the parent list that bypasses the view is detected by a change of the parent size.
+ *
+ * @param <T> generic type parameter
+ */
+class SubList<T> implements List<T> {
+    private final List<T> parent;
+    private final int offset;
+    private int size;
+    private int modCount;
+    private int expectedParentSize;
+
+    SubList(List<T> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedParentSize = parent.size();
+    }
+
+    @Override
+    public void add(T element) {
+        parent.add(offset + size, element);
+        size++;
+        structurallyModified();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        parent.add(offset + index, element);
+        size++;
+        structurallyModified();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return parent.get(offset);
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return parent.get(offset + size - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T element = parent.remove(offset + index);
+        size--;
+        structurallyModified();
+        return element;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(parent.get(offset + i), element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> elements) {
+        addAll(size, (T[]) elements.toArray());
+    }
+
+    @Override
+    public void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size + 1);
+        parent.addAll(offset + index, elements);
+        size += elements.length;
+        structurallyModified();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        size -= toIndex - fromIndex;
+        structurallyModified();
+    }
+
+    /**
+     * Returns a fail-fast iterator. It throws {@link ConcurrentModificationException} if the view or the parent list
+     * is structurally modified after the iterator is created, except through {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SubListIterator();
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator that splits the index range into halves. It reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}. Like the iterator, it reads elements using
+     * {@link List#get(int)} of the parent list.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SubListSpliterator(0, -1, 0);
+    }
+
+    private void structurallyModified() {
+        modCount++;
+        expectedParentSize = parent.size();
+    }
+
+    private void checkParentSize() {
+        if (parent.size() != expectedParentSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class SubListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return parent.get(offset + lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            SubList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            checkParentSize();
+        }
+    }
+
+    private class SubListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence; // -1 until the first use, so the size is read when traversal starts
+        private int expectedModCount;
+
+        SubListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new SubListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(parent.get(offset + index++));
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            for (int i = index; i < hi; i++) {
+                checkForComodification();
+                action.accept(parent.get(offset + i));
+            }
+            index = hi;
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            checkParentSize();
+        }
+    }
+}
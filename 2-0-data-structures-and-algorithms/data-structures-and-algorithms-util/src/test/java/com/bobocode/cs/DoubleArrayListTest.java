@@ -0,0 +1,117 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
+
+@DisplayName("DoubleArrayList Test")
+class DoubleArrayListTest {
+
+    @Test
+    @DisplayName("elements are added and removed by index")
+    void addAndRemoveByIndex() {
+        DoubleArrayList list = DoubleArrayList.of(2.5, 4.5);
+        list.add(1, 3.0);
+        list.add(0, 1.0);
+        list.add(4, 5.0);
+
+        assertThat(list.toArray()).containsExactly(1.0, 2.5, 3.0, 4.5, 5.0);
+        assertThat(list.remove(2)).isEqualTo(3.0);
+        assertThat(list.remove(0)).isEqualTo(1.0);
+        assertThat(list.remove(2)).isEqualTo(5.0);
+        assertThat(list.toArray()).containsExactly(2.5, 4.5);
+        assertThat(list.getFirst()).isEqualTo(2.5);
+        assertThat(list.getLast()).isEqualTo(4.5);
+        list.set(1, 1.0);
+        assertThat(list.get(1)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("the list grows beyond its initial capacity")
+    void growth() {
+        DoubleArrayList list = new DoubleArrayList(1);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.addAll(new double[]{1000, 1001});
+
+        assertThat(list.size()).isEqualTo(1002);
+        for (int i = 0; i < 1002; i++) {
+            assertThat(list.get(i)).isEqualTo((double) i);
+        }
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sort orders the elements, and binarySearch finds them")
+    void sortAndBinarySearch() {
+        DoubleArrayList list = DoubleArrayList.of(4.5, 1.0, 5.0, 2.5);
+        list.sort();
+
+        assertThat(list.toArray()).containsExactly(1.0, 2.5, 4.5, 5.0);
+        assertThat(list.binarySearch(4.5)).isEqualTo(2);
+        assertThat(list.binarySearch(3.0)).isEqualTo(-3);
+        assertThat(list.binarySearch(6.0)).isEqualTo(-5);
+    }
+
+    @Test
+    @DisplayName("contains finds only added elements")
+    void contains() {
+        DoubleArrayList list = DoubleArrayList.of(2.5, 3.0);
+
+        assertThat(list.contains(3.0)).isTrue();
+        assertThat(list.contains(4.5)).isFalse();
+        list.remove(1);
+        assertThat(list.contains(3.0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("contains compares values like Double.compare, so NaN is found and -0.0 differs from 0.0")
+    void containsSpecialValues() {
+        DoubleArrayList list = DoubleArrayList.of(Double.NaN, 0.0);
+
+        assertThat(list.contains(Double.NaN)).isTrue();
+        assertThat(list.contains(0.0)).isTrue();
+        assertThat(list.contains(-0.0)).isFalse();
+        list.add(-0.0);
+        list.sort();
+        assertThat(list.toArray()).containsExactly(-0.0, 0.0, Double.NaN);
+        assertThat(list.binarySearch(Double.NaN)).isEqualTo(2);
+        assertThat(list.binarySearch(-0.0)).isZero();
+    }
+
+    @Test
+    @DisplayName("invalid indexes, empty lists and invalid capacities are rejected")
+    void invalidArguments() {
+        DoubleArrayList list = DoubleArrayList.of(2.5);
+
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(-1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.set(1, 1.0));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.add(2, 1.0));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.remove(1));
+        list.remove(0);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoubleArrayList(0));
+    }
+
+    @Test
+    @DisplayName("stream returns the current elements")
+    void stream() {
+        DoubleArrayList list = DoubleArrayList.of(2.5, 3.0, 4.5);
+        list.remove(0);
+        DoubleStream stream = list.stream();
+
+        assertThat(stream.toArray()).containsExactly(3.0, 4.5);
+        assertThat(new DoubleArrayList().stream().count()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link IntArrayList} with a list of boxed {@link Integer}s. The boxed baseline is
+ * {@link java.util.ArrayList}, which uses the same array-based algorithm as the {@code ArrayList} exercise. Look at the
+ * "gc.alloc.rate.norm" metric reported by the GC profiler: filling a boxed list allocates an object per element that
+ * is outside the {@link Integer} cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class IntArrayListBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private IntArrayList primitiveList;
+    private java.util.ArrayList<Integer> boxedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        primitiveList = new IntArrayList();
+        boxedList = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int value = (int) (i * 2654435761L);
+            primitiveList.add(value);
+            boxedList.add(value);
+        }
+    }
+
+    @Benchmark
+    public IntArrayList fillPrimitive() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> fillBoxed() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < primitiveList.size(); i++) {
+            sum += primitiveList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (int i = 0; i < boxedList.size(); i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int sortAndSearchPrimitive() {
+        IntArrayList list = IntArrayList.of(primitiveList.toArray());
+        list.sort();
+        return list.binarySearch(size);
+    }
+
+    @Benchmark
+    public int sortAndSearchBoxed() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>(boxedList);
+        Collections.sort(list);
+        return Collections.binarySearch(list, size);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntArrayListBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
+
+@DisplayName("IntArrayList Test")
+class IntArrayListTest {
+
+    @Test
+    @DisplayName("elements are added and removed by index")
+    void addAndRemoveByIndex() {
+        IntArrayList list = IntArrayList.of(2, 4);
+        list.add(1, 3);
+        list.add(0, 1);
+        list.add(4, 5);
+
+        assertThat(list.toArray()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(list.remove(2)).isEqualTo(3);
+        assertThat(list.remove(0)).isEqualTo(1);
+        assertThat(list.remove(2)).isEqualTo(5);
+        assertThat(list.toArray()).containsExactly(2, 4);
+        assertThat(list.getFirst()).isEqualTo(2);
+        assertThat(list.getLast()).isEqualTo(4);
+        list.set(1, 1);
+        assertThat(list.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("the list grows beyond its initial capacity")
+    void growth() {
+        IntArrayList list = new IntArrayList(1);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.addAll(new int[]{1000, 1001});
+
+        assertThat(list.size()).isEqualTo(1002);
+        for (int i = 0; i < 1002; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sort orders the elements, and binarySearch finds them")
+    void sortAndBinarySearch() {
+        IntArrayList list = IntArrayList.of(4, 1, 5, 2);
+        list.sort();
+
+        assertThat(list.toArray()).containsExactly(1, 2, 4, 5);
+        assertThat(list.binarySearch(4)).isEqualTo(2);
+        assertThat(list.binarySearch(3)).isEqualTo(-3);
+        assertThat(list.binarySearch(6)).isEqualTo(-5);
+    }
+
+    @Test
+    @DisplayName("contains finds only added elements")
+    void contains() {
+        IntArrayList list = IntArrayList.of(2, 3);
+
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(4)).isFalse();
+        list.remove(1);
+        assertThat(list.contains(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("invalid indexes, empty lists and invalid capacities are rejected")
+    void invalidArguments() {
+        IntArrayList list = IntArrayList.of(2);
+
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(-1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.set(1, 1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.add(2, 1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.remove(1));
+        list.remove(0);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntArrayList(0));
+    }
+
+    @Test
+    @DisplayName("stream returns the current elements")
+    void stream() {
+        IntArrayList list = IntArrayList.of(2, 3, 4);
+        list.remove(0);
+        IntStream stream = list.stream();
+
+        assertThat(stream.toArray()).containsExactly(3, 4);
+        assertThat(new IntArrayList().stream().count()).isZero();
+    }
+}
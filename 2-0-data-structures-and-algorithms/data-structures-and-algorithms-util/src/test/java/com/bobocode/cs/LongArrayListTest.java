@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
+
+@DisplayName("LongArrayList Test")
+class LongArrayListTest {
+
+    @Test
+    @DisplayName("elements are added and removed by index")
+    void addAndRemoveByIndex() {
+        LongArrayList list = LongArrayList.of(2L, 4L);
+        list.add(1, 3L);
+        list.add(0, 1L);
+        list.add(4, 5L);
+
+        assertThat(list.toArray()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(list.remove(2)).isEqualTo(3L);
+        assertThat(list.remove(0)).isEqualTo(1L);
+        assertThat(list.remove(2)).isEqualTo(5L);
+        assertThat(list.toArray()).containsExactly(2L, 4L);
+        assertThat(list.getFirst()).isEqualTo(2L);
+        assertThat(list.getLast()).isEqualTo(4L);
+        list.set(1, 1L);
+        assertThat(list.get(1)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("the list grows beyond its initial capacity")
+    void growth() {
+        LongArrayList list = new LongArrayList(1);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.addAll(new long[]{1000, 1001});
+
+        assertThat(list.size()).isEqualTo(1002);
+        for (int i = 0; i < 1002; i++) {
+            assertThat(list.get(i)).isEqualTo((long) i);
+        }
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sort orders the elements, and binarySearch finds them")
+    void sortAndBinarySearch() {
+        LongArrayList list = LongArrayList.of(4L, 1L, 5L, 2L);
+        list.sort();
+
+        assertThat(list.toArray()).containsExactly(1L, 2L, 4L, 5L);
+        assertThat(list.binarySearch(4L)).isEqualTo(2);
+        assertThat(list.binarySearch(3L)).isEqualTo(-3);
+        assertThat(list.binarySearch(6L)).isEqualTo(-5);
+    }
+
+    @Test
+    @DisplayName("contains finds only added elements")
+    void contains() {
+        LongArrayList list = LongArrayList.of(2L, 3L);
+
+        assertThat(list.contains(3L)).isTrue();
+        assertThat(list.contains(4L)).isFalse();
+        list.remove(1);
+        assertThat(list.contains(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("invalid indexes, empty lists and invalid capacities are rejected")
+    void invalidArguments() {
+        LongArrayList list = LongArrayList.of(2L);
+
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.get(-1));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.set(1, 1L));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.add(2, 1L));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> list.remove(1));
+        list.remove(0);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongArrayList(0));
+    }
+
+    @Test
+    @DisplayName("stream returns the current elements")
+    void stream() {
+        LongArrayList list = LongArrayList.of(2L, 3L, 4L);
+        list.remove(0);
+        LongStream stream = list.stream();
+
+        assertThat(stream.toArray()).containsExactly(3L, 4L);
+        assertThat(new LongArrayList().stream().count()).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.devskiller.jfairy.Fairy;
+
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * {@link AccountPublisher} is a cold {@link Flow.Publisher} of generated accounts. Every subscriber gets its own
+ * sequence of accounts, which is the same for every subscriber of a seeded publisher. Accounts are generated only when
+ * there is a free slot in a bounded buffer, so a slow subscriber slows down the generation instead of growing the heap.
+ * The buffer is a {@link SubmissionPublisher} buffer, so its capacity is rounded up to the nearest power of two.
+ *
+ * @param <T> account type
+ */
+class AccountPublisher<T extends Account> implements Flow.Publisher<T> {
+    private final long size;
+    private final Integer seed;
+    private final Function<Fairy, T> generator;
+    private final int bufferCapacity;
+    private final Executor executor;
+
+    AccountPublisher(long size, Integer seed, Function<Fairy, T> generator, int bufferCapacity, Executor executor) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity should be positive: " + bufferCapacity);
+        }
+        this.size = AccountSpliterator.requireNonNegative(size);
+        this.seed = seed;
+        this.generator = generator;
+        this.bufferCapacity = bufferCapacity;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        SubmissionPublisher<T> publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        publisher.subscribe(subscriber);
+        executor.execute(() -> produce(publisher));
+    }
+
+    private void produce(SubmissionPublisher<T> publisher) {
+        try {
+            Spliterator<T> accounts = new AccountSpliterator<>(size, seed, generator);
+            // submit blocks while the buffer is full, and the loop stops as soon as the subscriber cancels
+            while (publisher.hasSubscribers()) {
+                if (!accounts.tryAdvance(publisher::submit)) {
+                    break;
+                }
+            }
+            publisher.close();
+        } catch (RuntimeException e) {
+            publisher.closeExceptionally(e);
+        }
+    }
+}
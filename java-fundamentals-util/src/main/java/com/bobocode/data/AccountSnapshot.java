@@ -0,0 +1,366 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.CreditAccount;
+import com.bobocode.model.Sex;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link AccountSnapshot} is a read-only view of accounts stored in a compact binary file. A snapshot file is written
+ * once using {@link AccountSnapshot#writeAccounts(List, Path)} or
+ * {@link AccountSnapshot#writeCreditAccounts(List, Path)} and then can be opened many times instead of generating the
+ * accounts again.
+ * <p>
+ * The file is column-oriented. It starts with a 32-byte header (magic, version, type, reserved, account count, string
+ * count), followed by fixed-width columns (ids, balances in cents, credit balances in cents for credit accounts,
+ * string codes of first name, last name and email, epoch days of birthday and creation date, sex ordinal), padding up
+ * to a file offset that is a multiple of 8, and a string pool (an offset table followed by UTF-8 bytes) shared by all
+ * string columns. Null values are stored as the same
+ * sentinels that {@link AccountTable} uses.
+ * <p>
+ * Opening a snapshot only maps the file into memory using {@link FileChannel#map}, so it takes constant time no matter
+ * how many accounts are stored. Accounts are decoded lazily when they are accessed. Please note that every column is
+ * mapped separately, and one mapping cannot exceed 2 GB.
+ *
+ * @param <T> account type
+ */
+public class AccountSnapshot<T extends Account> implements AutoCloseable {
+    private static final int MAGIC = 0x41434354; // "ACCT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int TYPE_ACCOUNT = 0;
+    private static final int TYPE_CREDIT_ACCOUNT = 1;
+    private static final Sex[] SEX_VALUES = Sex.values();
+
+    private final FileChannel channel;
+    private final boolean credit;
+    private final int size;
+    private final LongBuffer ids;
+    private final LongBuffer balances;
+    private final LongBuffer creditBalances;
+    private final IntBuffer firstNames;
+    private final IntBuffer lastNames;
+    private final IntBuffer emails;
+    private final IntBuffer birthdays;
+    private final IntBuffer creationDates;
+    private final ByteBuffer sexes;
+    private final LongBuffer stringOffsets;
+    private final ByteBuffer stringBytes;
+
+    /**
+     * Writes accounts to a snapshot file. Credit balances are not stored even if the list contains credit accounts.
+     *
+     * @param accounts accounts to write
+     * @param path     a file path
+     */
+    public static void writeAccounts(List<? extends Account> accounts, Path path) {
+        write(accounts, path, false);
+    }
+
+    /**
+     * Writes credit accounts to a snapshot file.
+     *
+     * @param accounts accounts to write
+     * @param path     a file path
+     */
+    public static void writeCreditAccounts(List<CreditAccount> accounts, Path path) {
+        write(accounts, path, true);
+    }
+
+    /**
+     * Opens a snapshot file of any type. If the file contains credit accounts, they are returned as
+     * {@link CreditAccount} instances.
+     *
+     * @param path a file path
+     * @return an opened snapshot
+     */
+    public static AccountSnapshot<Account> openAccounts(Path path) {
+        return new AccountSnapshot<>(path);
+    }
+
+    /**
+     * Opens a snapshot file written by {@link AccountSnapshot#writeCreditAccounts(List, Path)}.
+     *
+     * @param path a file path
+     * @return an opened snapshot
+     * @throws IllegalArgumentException if the file does not contain credit accounts
+     */
+    public static AccountSnapshot<CreditAccount> openCreditAccounts(Path path) {
+        AccountSnapshot<CreditAccount> snapshot = new AccountSnapshot<>(path);
+        if (!snapshot.credit) {
+            snapshot.close();
+            throw new IllegalArgumentException("File does not contain credit accounts: " + path);
+        }
+        return snapshot;
+    }
+
+    private static void write(List<? extends Account> accounts, Path path, boolean credit) {
+        StringDictionary strings = new StringDictionary();
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(credit ? TYPE_CREDIT_ACCOUNT : TYPE_ACCOUNT);
+            out.writeInt(0);
+            out.writeLong(accounts.size());
+            long stringCountPosition = out.size();
+            out.writeLong(0); // string count is patched when the pool is known
+            writeLongColumn(out, accounts, a -> a.getId() == null ? AccountTable.NULL_LONG : a.getId());
+            writeLongColumn(out, accounts, a -> AccountTable.toCents(a.getBalance()));
+            if (credit) {
+                writeLongColumn(out, accounts,
+                        a -> AccountTable.toCents(((CreditAccount) a).getCreditBalance().orElse(null)));
+            }
+            writeIntColumn(out, accounts, a -> strings.encode(a.getFirstName()));
+            writeIntColumn(out, accounts, a -> strings.encode(a.getLastName()));
+            writeIntColumn(out, accounts, a -> strings.encode(a.getEmail()));
+            writeIntColumn(out, accounts, a -> AccountTable.toEpochDay(a.getBirthday()));
+            writeIntColumn(out, accounts, a -> AccountTable.toEpochDay(a.getCreationDate()));
+            for (Account account : accounts) {
+                out.writeByte(account.getSex() == null ? AccountTable.NULL_SEX : account.getSex().ordinal());
+            }
+            long sexColumnEnd = HEADER_SIZE
+                    + (long) accounts.size() * ((credit ? 3 : 2) * Long.BYTES + 5 * Integer.BYTES + 1);
+            out.write(new byte[padding(sexColumnEnd)]);
+            writeStringPool(out, strings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        patchStringCount(path, strings.size());
+    }
+
+    private static <A extends Account> void writeLongColumn(DataOutputStream out, List<A> accounts,
+                                                            ToLongFunction<? super A> column) throws IOException {
+        for (A account : accounts) {
+            out.writeLong(column.applyAsLong(account));
+        }
+    }
+
+    private static <A extends Account> void writeIntColumn(DataOutputStream out, List<A> accounts,
+                                                           ToIntFunction<? super A> column) throws IOException {
+        for (A account : accounts) {
+            out.writeInt(column.applyAsInt(account));
+        }
+    }
+
+    private static void writeStringPool(DataOutputStream out, StringDictionary strings) throws IOException {
+        long offset = 0;
+        out.writeLong(offset);
+        for (int code = 0; code < strings.size(); code++) {
+            offset += strings.decode(code).getBytes(UTF_8).length;
+            out.writeLong(offset);
+        }
+        for (int code = 0; code < strings.size(); code++) {
+            out.write(strings.decode(code).getBytes(UTF_8));
+        }
+    }
+
+    private static void patchStringCount(Path path, int stringCount) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, stringCount), HEADER_SIZE - Long.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return a number of bytes that moves a file position to the next multiple of 8, so the long column after it is
+     * aligned
+     */
+    private static int padding(long position) {
+        return (int) ((Long.BYTES - position % Long.BYTES) % Long.BYTES);
+    }
+
+    /**
+     * Maps all the columns of a file. If the file is not a valid snapshot, the channel is closed before the exception
+     * is thrown.
+     */
+    private AccountSnapshot(Path path) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.channel = channel;
+        try {
+            ByteBuffer header = map(0, HEADER_SIZE);
+            int type = header.getInt(8);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || (type != TYPE_ACCOUNT && type != TYPE_CREDIT_ACCOUNT)) {
+                throw new IllegalArgumentException("Not an account snapshot file: " + path);
+            }
+            credit = type == TYPE_CREDIT_ACCOUNT;
+            size = Math.toIntExact(header.getLong(16));
+            long stringCount = header.getLong(24);
+            long position = HEADER_SIZE;
+            ids = map(position, (long) size * Long.BYTES).asLongBuffer();
+            position += (long) size * Long.BYTES;
+            balances = map(position, (long) size * Long.BYTES).asLongBuffer();
+            position += (long) size * Long.BYTES;
+            if (credit) {
+                creditBalances = map(position, (long) size * Long.BYTES).asLongBuffer();
+                position += (long) size * Long.BYTES;
+            } else {
+                creditBalances = null;
+            }
+            firstNames = map(position, (long) size * Integer.BYTES).asIntBuffer();
+            position += (long) size * Integer.BYTES;
+            lastNames = map(position, (long) size * Integer.BYTES).asIntBuffer();
+            position += (long) size * Integer.BYTES;
+            emails = map(position, (long) size * Integer.BYTES).asIntBuffer();
+            position += (long) size * Integer.BYTES;
+            birthdays = map(position, (long) size * Integer.BYTES).asIntBuffer();
+            position += (long) size * Integer.BYTES;
+            creationDates = map(position, (long) size * Integer.BYTES).asIntBuffer();
+            position += (long) size * Integer.BYTES;
+            sexes = map(position, size);
+            position += size;
+            position += padding(position);
+            stringOffsets = map(position, (stringCount + 1) * Long.BYTES).asLongBuffer();
+            position += (stringCount + 1) * Long.BYTES;
+            stringBytes = map(position, stringOffsets.get((int) stringCount));
+        } catch (IOException e) {
+            closeAfterFailure(channel, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+    }
+
+    private static void closeAfterFailure(FileChannel channel, Exception failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private ByteBuffer map(long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot region of " + length + " bytes exceeds the mapping limit of "
+                    + Integer.MAX_VALUE + " bytes (2 GB)");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    /**
+     * @return a number of accounts in the snapshot
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes an account with a given index. Every call creates a new account object.
+     *
+     * @param index an account index
+     * @return a new account
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Account account;
+        if (credit) {
+            CreditAccount creditAccount = new CreditAccount();
+            creditAccount.setCreditBalance(AccountTable.fromCents(creditBalances.get(index)));
+            account = creditAccount;
+        } else {
+            account = new Account();
+        }
+        long id = ids.get(index);
+        account.setId(id == AccountTable.NULL_LONG ? null : id);
+        account.setFirstName(decodeString(firstNames.get(index)));
+        account.setLastName(decodeString(lastNames.get(index)));
+        account.setEmail(decodeString(emails.get(index)));
+        account.setBirthday(AccountTable.toLocalDate(birthdays.get(index)));
+        byte sex = sexes.get(index);
+        account.setSex(sex == AccountTable.NULL_SEX ? null : SEX_VALUES[sex]);
+        account.setCreationDate(AccountTable.toLocalDate(creationDates.get(index)));
+        account.setBalance(AccountTable.fromCents(balances.get(index)));
+        return (T) account;
+    }
+
+    /**
+     * Returns a balance without decoding the whole account.
+     *
+     * @param index an account index
+     * @return a balance in cents, or {@link Long#MIN_VALUE} if there is no balance
+     */
+    public long getBalanceInCents(int index) {
+        return balances.get(Objects.checkIndex(index, size));
+    }
+
+    /**
+     * @return a read-only list that decodes an account on every {@link List#get(int)} call
+     */
+    public List<T> asList() {
+        return new SnapshotList();
+    }
+
+    /**
+     * @return a lazy stream of decoded accounts
+     */
+    public Stream<T> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Closes the file channel. The mapped memory is released by the JVM once the snapshot becomes unreachable.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String decodeString(int code) {
+        if (code == StringDictionary.NULL_CODE) {
+            return null;
+        }
+        int from = (int) stringOffsets.get(code);
+        int to = (int) stringOffsets.get(code + 1);
+        byte[] bytes = new byte[to - from];
+        stringBytes.get(from, bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private class SnapshotList extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return AccountSnapshot.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.devskiller.jfairy.Fairy;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link AccountSpliterator} lazily generates accounts one by one, so a stream built on top of it never holds more
+ * than a single account in memory. Accounts are grouped in chunks of {@link Accounts#CHUNK_SIZE} elements, and the
+ * spliterator always splits on a chunk boundary. In a seeded mode every chunk has its own generator, which makes the
+ * output the same for sequential and parallel streams.
+ *
+ * @param <T> account type
+ */
+class AccountSpliterator<T extends Account> implements Spliterator<T> {
+    private final Integer seed;
+    private final Function<Fairy, T> generator;
+    private long index;
+    private final long fence;
+    private long currentChunk = -1;
+    private Fairy fairy;
+
+    /**
+     * @throws IllegalArgumentException if the size is negative
+     */
+    AccountSpliterator(long size, Integer seed, Function<Fairy, T> generator) {
+        this(0, requireNonNegative(size), seed, generator);
+    }
+
+    private AccountSpliterator(long index, long fence, Integer seed, Function<Fairy, T> generator) {
+        this.index = index;
+        this.fence = fence;
+        this.seed = seed;
+        this.generator = generator;
+    }
+
+    static long requireNonNegative(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(generator.apply(fairyFor(index)));
+        index++;
+        return true;
+    }
+
+    private Fairy fairyFor(long index) {
+        if (seed == null) {
+            return Accounts.threadLocalFairy();
+        }
+        long chunk = index / Accounts.CHUNK_SIZE;
+        if (chunk != currentChunk) {
+            fairy = Accounts.createSeededFairy(seed, (int) chunk);
+            currentChunk = chunk;
+        }
+        return fairy;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long middle = (index + fence) >>> 1;
+        middle -= middle % Accounts.CHUNK_SIZE;
+        if (middle <= index) {
+            return null;
+        }
+        AccountSpliterator<T> prefix = new AccountSpliterator<>(index, middle, seed, generator);
+        prefix.currentChunk = currentChunk;
+        prefix.fairy = fairy;
+        index = middle;
+        currentChunk = -1;
+        fairy = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,575 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.CreditAccount;
+import com.bobocode.model.Sex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link AccountTable} is a column-oriented (struct-of-arrays) storage for {@link Account} objects. Instead of keeping
+ * a separate object per account, it keeps one primitive array per field:
+ * <ul>
+ *     <li>ids as {@code long}</li>
+ *     <li>balances as {@code long} cents</li>
+ *     <li>dates as {@code int} epoch days</li>
+ *     <li>{@link Sex} as a {@code byte} ordinal</li>
+ *     <li>first and last names as {@code int} codes of a per-column string dictionary</li>
+ *     <li>emails as UTF-8 bytes in a shared byte pool, found by an {@code int} offset and length</li>
+ *     <li>a {@code boolean} flag of a {@link CreditAccount} and its credit balance as {@code long} cents</li>
+ * </ul>
+ * Null values are stored as sentinels ({@link Long#MIN_VALUE}, {@link Integer#MIN_VALUE}, -1), so nullable fields of
+ * {@link Account} survive a round trip.
+ * <p>
+ * Names repeat a lot, so a dictionary stores every distinct name once. Emails are unique, so a dictionary would not
+ * save anything, and they are kept as raw bytes instead. Changing an email appends the new bytes to the pool, and the
+ * old ones are not reclaimed.
+ * <p>
+ * Primitive accessors like {@link AccountTable#getBalanceInCents(int)} allow to scan a column without allocating
+ * anything, e.g. {@code table.rows().mapToLong(table::getBalanceInCents).sum()}. Method {@link AccountTable#get(int)}
+ * returns a flyweight {@link Account} view (a {@link CreditAccount} one for credit rows) that reads and writes the
+ * table directly.
+ */
+public class AccountTable {
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+    static final byte NULL_SEX = -1;
+    static final int NULL_LENGTH = -1;
+    private static final int ESTIMATED_EMAIL_LENGTH = 16;
+    private static final Sex[] SEX_VALUES = Sex.values();
+
+    private long[] ids;
+    private int[] firstNames;
+    private int[] lastNames;
+    private int[] emailOffsets;
+    private int[] emailLengths;
+    private byte[] emailPool;
+    private int emailPoolSize;
+    private int[] birthdays;
+    private byte[] sexes;
+    private int[] creationDates;
+    private long[] balances;
+    private boolean[] credits;
+    private long[] creditBalances;
+    private final StringDictionary firstNameDictionary = new StringDictionary();
+    private final StringDictionary lastNameDictionary = new StringDictionary();
+    private int size;
+
+    public AccountTable() {
+        this(16);
+    }
+
+    public AccountTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        ids = new long[initialCapacity];
+        firstNames = new int[initialCapacity];
+        lastNames = new int[initialCapacity];
+        emailOffsets = new int[initialCapacity];
+        emailLengths = new int[initialCapacity];
+        emailPool = new byte[(int) Math.min((long) initialCapacity * ESTIMATED_EMAIL_LENGTH, Integer.MAX_VALUE - 8)];
+        birthdays = new int[initialCapacity];
+        sexes = new byte[initialCapacity];
+        creationDates = new int[initialCapacity];
+        balances = new long[initialCapacity];
+        credits = new boolean[initialCapacity];
+        creditBalances = new long[initialCapacity];
+    }
+
+    /**
+     * Creates a new table that holds all provided accounts in the same order.
+     *
+     * @param accounts accounts to convert
+     * @return a new table
+     */
+    public static AccountTable of(List<? extends Account> accounts) {
+        AccountTable table = new AccountTable(accounts.size());
+        accounts.forEach(table::add);
+        return table;
+    }
+
+    /**
+     * Appends an account to the end of the table. Balances should not have more than two fractional digits. A credit
+     * balance is stored for a {@link CreditAccount}.
+     *
+     * @param account an account to add
+     * @throws ArithmeticException if a balance cannot be represented in cents
+     */
+    public void add(Account account) {
+        Objects.requireNonNull(account);
+        ensureCapacity(size + 1);
+        int row = size++;
+        setId(row, account.getId());
+        setFirstName(row, account.getFirstName());
+        setLastName(row, account.getLastName());
+        setEmail(row, account.getEmail());
+        setBirthday(row, account.getBirthday());
+        setSex(row, account.getSex());
+        setCreationDate(row, account.getCreationDate());
+        setBalance(row, account.getBalance());
+        if (account instanceof CreditAccount creditAccount) {
+            credits[row] = true;
+            setCreditBalance(row, creditAccount.getCreditBalance().orElse(null));
+        } else {
+            credits[row] = false;
+            creditBalances[row] = NULL_LONG;
+        }
+    }
+
+    /**
+     * Returns a flyweight view of a given row. The view does not copy any data, so all changes made via its setters
+     * are written to the table. A view of a credit row is a {@link CreditAccount}.
+     *
+     * @param row a row index
+     * @return an account view
+     */
+    public Account get(int row) {
+        return isCredit(row) ? new CreditAccountView(row) : new AccountView(row);
+    }
+
+    /**
+     * Converts the table into a list of regular {@link Account} objects. Credit rows become {@link CreditAccount}
+     * objects.
+     *
+     * @return a new list of accounts
+     */
+    public List<Account> toList() {
+        List<Account> accounts = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            Account account;
+            if (credits[row]) {
+                account = new CreditAccount(getCreditBalance(row));
+            } else {
+                account = new Account();
+            }
+            account.setId(getId(row));
+            account.setFirstName(getFirstName(row));
+            account.setLastName(getLastName(row));
+            account.setEmail(getEmail(row));
+            account.setBirthday(getBirthday(row));
+            account.setSex(getSex(row));
+            account.setCreationDate(getCreationDate(row));
+            account.setBalance(getBalance(row));
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    /**
+     * @return a stream of row indexes that can be used with primitive column accessors
+     */
+    public IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if the account stored in the row has an id
+     */
+    public boolean hasId(int row) {
+        return ids[Objects.checkIndex(row, size)] != NULL_LONG;
+    }
+
+    /**
+     * @return a raw id value, or {@link Long#MIN_VALUE} if there is no id
+     */
+    public long getIdAsLong(int row) {
+        return ids[Objects.checkIndex(row, size)];
+    }
+
+    public Long getId(int row) {
+        long id = getIdAsLong(row);
+        return id == NULL_LONG ? null : id;
+    }
+
+    public String getFirstName(int row) {
+        return firstNameDictionary.decode(firstNames[Objects.checkIndex(row, size)]);
+    }
+
+    public String getLastName(int row) {
+        return lastNameDictionary.decode(lastNames[Objects.checkIndex(row, size)]);
+    }
+
+    public String getEmail(int row) {
+        int length = emailLengths[Objects.checkIndex(row, size)];
+        return length == NULL_LENGTH ? null : new String(emailPool, emailOffsets[row], length, UTF_8);
+    }
+
+    /**
+     * @return a birthday as epoch day, or {@link Integer#MIN_VALUE} if there is no birthday
+     */
+    public int getBirthdayEpochDay(int row) {
+        return birthdays[Objects.checkIndex(row, size)];
+    }
+
+    public LocalDate getBirthday(int row) {
+        return toLocalDate(getBirthdayEpochDay(row));
+    }
+
+    public Sex getSex(int row) {
+        byte sex = sexes[Objects.checkIndex(row, size)];
+        return sex == NULL_SEX ? null : SEX_VALUES[sex];
+    }
+
+    /**
+     * @return a creation date as epoch day, or {@link Integer#MIN_VALUE} if there is no creation date
+     */
+    public int getCreationDateEpochDay(int row) {
+        return creationDates[Objects.checkIndex(row, size)];
+    }
+
+    public LocalDate getCreationDate(int row) {
+        return toLocalDate(getCreationDateEpochDay(row));
+    }
+
+    /**
+     * @return a balance in cents, or {@link Long#MIN_VALUE} if there is no balance
+     */
+    public long getBalanceInCents(int row) {
+        return balances[Objects.checkIndex(row, size)];
+    }
+
+    public BigDecimal getBalance(int row) {
+        return fromCents(getBalanceInCents(row));
+    }
+
+    /**
+     * @return true if the row was added from a {@link CreditAccount}
+     */
+    public boolean isCredit(int row) {
+        return credits[Objects.checkIndex(row, size)];
+    }
+
+    /**
+     * @return a credit balance in cents, or {@link Long#MIN_VALUE} if there is no credit balance or the row is not
+     * a credit account
+     */
+    public long getCreditBalanceInCents(int row) {
+        return creditBalances[Objects.checkIndex(row, size)];
+    }
+
+    public BigDecimal getCreditBalance(int row) {
+        return fromCents(getCreditBalanceInCents(row));
+    }
+
+    public void setId(int row, Long id) {
+        ids[Objects.checkIndex(row, size)] = id == null ? NULL_LONG : id;
+    }
+
+    public void setFirstName(int row, String firstName) {
+        firstNames[Objects.checkIndex(row, size)] = firstNameDictionary.encode(firstName);
+    }
+
+    public void setLastName(int row, String lastName) {
+        lastNames[Objects.checkIndex(row, size)] = lastNameDictionary.encode(lastName);
+    }
+
+    public void setEmail(int row, String email) {
+        Objects.checkIndex(row, size);
+        if (email == null) {
+            emailLengths[row] = NULL_LENGTH;
+            return;
+        }
+        byte[] bytes = email.getBytes(UTF_8);
+        ensureEmailPoolCapacity((long) emailPoolSize + bytes.length);
+        System.arraycopy(bytes, 0, emailPool, emailPoolSize, bytes.length);
+        emailOffsets[row] = emailPoolSize;
+        emailLengths[row] = bytes.length;
+        emailPoolSize += bytes.length;
+    }
+
+    public void setBirthday(int row, LocalDate birthday) {
+        birthdays[Objects.checkIndex(row, size)] = toEpochDay(birthday);
+    }
+
+    public void setSex(int row, Sex sex) {
+        sexes[Objects.checkIndex(row, size)] = sex == null ? NULL_SEX : (byte) sex.ordinal();
+    }
+
+    public void setCreationDate(int row, LocalDate creationDate) {
+        creationDates[Objects.checkIndex(row, size)] = toEpochDay(creationDate);
+    }
+
+    public void setBalance(int row, BigDecimal balance) {
+        balances[Objects.checkIndex(row, size)] = toCents(balance);
+    }
+
+    /**
+     * @throws IllegalStateException if the row is not a credit account
+     */
+    public void setCreditBalance(int row, BigDecimal creditBalance) {
+        if (!isCredit(row)) {
+            throw new IllegalStateException("Row is not a credit account: " + row);
+        }
+        creditBalances[row] = toCents(creditBalance);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > ids.length) {
+            int newCapacity = Math.max(minCapacity, ids.length + (ids.length >> 1) + 1);
+            ids = Arrays.copyOf(ids, newCapacity);
+            firstNames = Arrays.copyOf(firstNames, newCapacity);
+            lastNames = Arrays.copyOf(lastNames, newCapacity);
+            emailOffsets = Arrays.copyOf(emailOffsets, newCapacity);
+            emailLengths = Arrays.copyOf(emailLengths, newCapacity);
+            birthdays = Arrays.copyOf(birthdays, newCapacity);
+            sexes = Arrays.copyOf(sexes, newCapacity);
+            creationDates = Arrays.copyOf(creationDates, newCapacity);
+            balances = Arrays.copyOf(balances, newCapacity);
+            credits = Arrays.copyOf(credits, newCapacity);
+            creditBalances = Arrays.copyOf(creditBalances, newCapacity);
+        }
+    }
+
+    private void ensureEmailPoolCapacity(long minCapacity) {
+        if (minCapacity > emailPool.length) {
+            if (minCapacity > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Email pool is too large");
+            }
+            long grownCapacity = emailPool.length + (emailPool.length >> 1) + ESTIMATED_EMAIL_LENGTH;
+            long newCapacity = Math.max(minCapacity, grownCapacity);
+            emailPool = Arrays.copyOf(emailPool, (int) Math.min(newCapacity, Integer.MAX_VALUE - 8));
+        }
+    }
+
+    static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return NULL_LONG;
+        }
+        return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts cents back to an amount with the smallest non-negative scale, so whole amounts (which all generated
+     * balances are) are equal to the original {@link BigDecimal} values.
+     */
+    static BigDecimal fromCents(long cents) {
+        if (cents == NULL_LONG) {
+            return null;
+        } else if (cents % 100 == 0) {
+            return BigDecimal.valueOf(cents / 100);
+        } else if (cents % 10 == 0) {
+            return BigDecimal.valueOf(cents / 10, 1);
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    static int toEpochDay(LocalDate date) {
+        return date == null ? NULL_DATE : Math.toIntExact(date.toEpochDay());
+    }
+
+    static LocalDate toLocalDate(int epochDay) {
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * A flyweight {@link Account} that delegates all getters and setters to a row of the table.
+     */
+    private class AccountView extends Account {
+        private final int row;
+
+        private AccountView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Long getId() {
+            return AccountTable.this.getId(row);
+        }
+
+        @Override
+        public String getFirstName() {
+            return AccountTable.this.getFirstName(row);
+        }
+
+        @Override
+        public String getLastName() {
+            return AccountTable.this.getLastName(row);
+        }
+
+        @Override
+        public String getEmail() {
+            return AccountTable.this.getEmail(row);
+        }
+
+        @Override
+        public LocalDate getBirthday() {
+            return AccountTable.this.getBirthday(row);
+        }
+
+        @Override
+        public Sex getSex() {
+            return AccountTable.this.getSex(row);
+        }
+
+        @Override
+        public LocalDate getCreationDate() {
+            return AccountTable.this.getCreationDate(row);
+        }
+
+        @Override
+        public BigDecimal getBalance() {
+            return AccountTable.this.getBalance(row);
+        }
+
+        @Override
+        public void setId(Long id) {
+            AccountTable.this.setId(row, id);
+        }
+
+        @Override
+        public void setFirstName(String firstName) {
+            AccountTable.this.setFirstName(row, firstName);
+        }
+
+        @Override
+        public void setLastName(String lastName) {
+            AccountTable.this.setLastName(row, lastName);
+        }
+
+        @Override
+        public void setEmail(String email) {
+            AccountTable.this.setEmail(row, email);
+        }
+
+        @Override
+        public void setBirthday(LocalDate birthday) {
+            AccountTable.this.setBirthday(row, birthday);
+        }
+
+        @Override
+        public void setSex(Sex sex) {
+            AccountTable.this.setSex(row, sex);
+        }
+
+        @Override
+        public void setCreationDate(LocalDate creationDate) {
+            AccountTable.this.setCreationDate(row, creationDate);
+        }
+
+        @Override
+        public void setBalance(BigDecimal balance) {
+            AccountTable.this.setBalance(row, balance);
+        }
+    }
+
+    /**
+     * A flyweight {@link CreditAccount} that delegates all getters and setters to a credit row of the table, like
+     * {@link AccountView} does.
+     */
+    private class CreditAccountView extends CreditAccount {
+        private final int row;
+
+        private CreditAccountView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Optional<BigDecimal> getCreditBalance() {
+            return Optional.ofNullable(AccountTable.this.getCreditBalance(row));
+        }
+
+        @Override
+        public void setCreditBalance(BigDecimal creditBalance) {
+            AccountTable.this.setCreditBalance(row, creditBalance);
+        }
+
+        @Override
+        public Long getId() {
+            return AccountTable.this.getId(row);
+        }
+
+        @Override
+        public String getFirstName() {
+            return AccountTable.this.getFirstName(row);
+        }
+
+        @Override
+        public String getLastName() {
+            return AccountTable.this.getLastName(row);
+        }
+
+        @Override
+        public String getEmail() {
+            return AccountTable.this.getEmail(row);
+        }
+
+        @Override
+        public LocalDate getBirthday() {
+            return AccountTable.this.getBirthday(row);
+        }
+
+        @Override
+        public Sex getSex() {
+            return AccountTable.this.getSex(row);
+        }
+
+        @Override
+        public LocalDate getCreationDate() {
+            return AccountTable.this.getCreationDate(row);
+        }
+
+        @Override
+        public BigDecimal getBalance() {
+            return AccountTable.this.getBalance(row);
+        }
+
+        @Override
+        public void setId(Long id) {
+            AccountTable.this.setId(row, id);
+        }
+
+        @Override
+        public void setFirstName(String firstName) {
+            AccountTable.this.setFirstName(row, firstName);
+        }
+
+        @Override
+        public void setLastName(String lastName) {
+            AccountTable.this.setLastName(row, lastName);
+        }
+
+        @Override
+        public void setEmail(String email) {
+            AccountTable.this.setEmail(row, email);
+        }
+
+        @Override
+        public void setBirthday(LocalDate birthday) {
+            AccountTable.this.setBirthday(row, birthday);
+        }
+
+        @Override
+        public void setSex(Sex sex) {
+            AccountTable.this.setSex(row, sex);
+        }
+
+        @Override
+        public void setCreationDate(LocalDate creationDate) {
+            AccountTable.this.setCreationDate(row, creationDate);
+        }
+
+        @Override
+        public void setBalance(BigDecimal balance) {
+            AccountTable.this.setBalance(row, balance);
+        }
+    }
+}
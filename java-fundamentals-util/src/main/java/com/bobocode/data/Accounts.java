@@ -8,15 +8,30 @@ import com.devskiller.jfairy.producer.person.Person;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 
 public class Accounts {
     public static int MAX_BALANCE_VALUE = 200_000;
 
+    /**
+     * A number of accounts that are generated by one fork/join leaf task. In a seeded mode every chunk gets its own
+     * generator, so the output does not depend on how the work was distributed between threads.
+     */
+    static final int CHUNK_SIZE = 4096;
+
+    private static final ThreadLocal<Fairy> THREAD_LOCAL_FAIRY = ThreadLocal.withInitial(Fairy::create);
+
     public static Account generateAccount() {
         Person person = generatePerson();
         Account account = convertToAccount(person);
@@ -44,6 +59,224 @@ public class Accounts {
                 .collect(toList());
     }
 
+    /**
+     * Generates a list of accounts using all available cores. Instead of creating a new {@link Fairy} for every
+     * account, each worker thread reuses its own instance.
+     *
+     * @param size a number of accounts to generate
+     * @return a new list of random accounts
+     */
+    public static List<Account> generateAccountListInParallel(int size) {
+        return generateInParallel(size, null, Accounts::generateAccount);
+    }
+
+    /**
+     * Generates a list of accounts using all available cores. The same seed and size always produce the same
+     * accounts in the same order (except fields that depend on the current date).
+     *
+     * @param size a number of accounts to generate
+     * @param seed a random seed
+     * @return a new list of random accounts
+     */
+    public static List<Account> generateAccountListInParallel(int size, int seed) {
+        return generateInParallel(size, seed, Accounts::generateAccount);
+    }
+
+    /**
+     * Generates a list of credit accounts using all available cores, reusing one {@link Fairy} per worker thread.
+     *
+     * @param size a number of accounts to generate
+     * @return a new list of random credit accounts
+     */
+    public static List<CreditAccount> generateCreditAccountListInParallel(int size) {
+        return generateInParallel(size, null, Accounts::generateCreditAccount);
+    }
+
+    /**
+     * Generates a reproducible list of credit accounts using all available cores.
+     *
+     * @param size a number of accounts to generate
+     * @param seed a random seed
+     * @return a new list of random credit accounts
+     */
+    public static List<CreditAccount> generateCreditAccountListInParallel(int size, int seed) {
+        return generateInParallel(size, seed, Accounts::generateCreditAccount);
+    }
+
+    /**
+     * Creates a lazy stream of accounts. Accounts are generated on demand, so the stream can be much larger than
+     * the available heap as long as the terminal operation does not collect it. Use {@link Stream#iterator()} to
+     * consume it as an {@link java.util.Iterator}.
+     *
+     * @param size a number of accounts in the stream
+     * @return a lazy stream of random accounts
+     */
+    public static Stream<Account> accountStream(long size) {
+        return StreamSupport.stream(new AccountSpliterator<>(size, null, Accounts::generateAccount), false);
+    }
+
+    /**
+     * Creates a lazy stream of accounts that contains the same accounts as
+     * {@link Accounts#generateAccountListInParallel(int, int)} for the same seed. It can be safely turned into
+     * a parallel stream.
+     *
+     * @param size a number of accounts in the stream
+     * @param seed a random seed
+     * @return a lazy stream of random accounts
+     */
+    public static Stream<Account> accountStream(long size, int seed) {
+        return StreamSupport.stream(new AccountSpliterator<>(size, seed, Accounts::generateAccount), false);
+    }
+
+    /**
+     * Creates a lazy stream of credit accounts.
+     *
+     * @param size a number of accounts in the stream
+     * @return a lazy stream of random credit accounts
+     */
+    public static Stream<CreditAccount> creditAccountStream(long size) {
+        return StreamSupport.stream(new AccountSpliterator<>(size, null, Accounts::generateCreditAccount), false);
+    }
+
+    /**
+     * Creates a lazy stream of credit accounts that is reproducible for the same seed.
+     *
+     * @param size a number of accounts in the stream
+     * @param seed a random seed
+     * @return a lazy stream of random credit accounts
+     */
+    public static Stream<CreditAccount> creditAccountStream(long size, int seed) {
+        return StreamSupport.stream(new AccountSpliterator<>(size, seed, Accounts::generateCreditAccount), false);
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} of accounts. Accounts are generated only when a subscriber has requested them
+     * and there is a free slot in a buffer, so a limited number of accounts is held in memory per subscriber. The
+     * buffer capacity is rounded up to the nearest power of two, as {@link java.util.concurrent.SubmissionPublisher}
+     * does.
+     *
+     * @param size           a number of accounts to publish
+     * @param bufferCapacity a maximum number of generated accounts that were not consumed yet (before rounding)
+     * @return a publisher of random accounts
+     */
+    public static Flow.Publisher<Account> accountPublisher(long size, int bufferCapacity) {
+        return new AccountPublisher<>(size, null, Accounts::generateAccount, bufferCapacity,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} of accounts with a bounded buffer. Every subscriber gets the same accounts as
+     * {@link Accounts#accountStream(long, int)} returns for the same seed.
+     *
+     * @param size           a number of accounts to publish
+     * @param bufferCapacity a maximum number of generated accounts that were not consumed yet (before rounding)
+     * @param seed           a random seed
+     * @return a publisher of random accounts
+     */
+    public static Flow.Publisher<Account> accountPublisher(long size, int bufferCapacity, int seed) {
+        return new AccountPublisher<>(size, seed, Accounts::generateAccount, bufferCapacity,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} of credit accounts with a bounded buffer.
+     *
+     * @param size           a number of accounts to publish
+     * @param bufferCapacity a maximum number of generated accounts that were not consumed yet (before rounding)
+     * @return a publisher of random credit accounts
+     */
+    public static Flow.Publisher<CreditAccount> creditAccountPublisher(long size, int bufferCapacity) {
+        return new AccountPublisher<>(size, null, Accounts::generateCreditAccount, bufferCapacity,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} of credit accounts with a bounded buffer that is reproducible for the same
+     * seed.
+     *
+     * @param size           a number of accounts to publish
+     * @param bufferCapacity a maximum number of generated accounts that were not consumed yet (before rounding)
+     * @param seed           a random seed
+     * @return a publisher of random credit accounts
+     */
+    public static Flow.Publisher<CreditAccount> creditAccountPublisher(long size, int bufferCapacity, int seed) {
+        return new AccountPublisher<>(size, seed, Accounts::generateCreditAccount, bufferCapacity,
+                ForkJoinPool.commonPool());
+    }
+
+    private static <T extends Account> List<T> generateInParallel(int size, Integer seed,
+                                                                  Function<Fairy, T> generator) {
+        AccountSpliterator.requireNonNegative(size);
+        @SuppressWarnings("unchecked")
+        T[] accounts = (T[]) new Account[size];
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ForkJoinPool.commonPool().invoke(new GenerateChunksTask(accounts, 0, chunks, seed, generator));
+        return new ArrayList<>(Arrays.asList(accounts));
+    }
+
+    /**
+     * Splits a range of chunks in halves until a single chunk is left, and fills it with generated accounts.
+     */
+    private static class GenerateChunksTask extends RecursiveAction {
+        private final Account[] target;
+        private final int fromChunk;
+        private final int toChunk;
+        private final Integer seed;
+        private final Function<Fairy, ? extends Account> generator;
+
+        GenerateChunksTask(Account[] target, int fromChunk, int toChunk, Integer seed,
+                           Function<Fairy, ? extends Account> generator) {
+            this.target = target;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.seed = seed;
+            this.generator = generator;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= 1) {
+                generateChunk(fromChunk);
+            } else {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new GenerateChunksTask(target, fromChunk, middle, seed, generator),
+                        new GenerateChunksTask(target, middle, toChunk, seed, generator));
+            }
+        }
+
+        private void generateChunk(int chunk) {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, target.length);
+            Fairy fairy = seed == null ? threadLocalFairy() : createSeededFairy(seed, chunk);
+            for (int i = from; i < to; i++) {
+                target[i] = generator.apply(fairy);
+            }
+        }
+    }
+
+    static Fairy threadLocalFairy() {
+        return THREAD_LOCAL_FAIRY.get();
+    }
+
+    static Fairy createSeededFairy(int seed, int chunk) {
+        return Fairy.builder()
+                .withRandomSeed(seed ^ (chunk * 0x9E3779B9))
+                .build();
+    }
+
+    private static Account generateAccount(Fairy fairy) {
+        Account account = convertToAccount(fairy.person());
+        fillCommonRandomFields(account, fairy);
+        return account;
+    }
+
+    private static CreditAccount generateCreditAccount(Fairy fairy) {
+        CreditAccount account = convertToCreditAccount(fairy.person());
+        fillCommonRandomFields(account, fairy);
+        account.setCreditBalance(BigDecimal.valueOf(fairy.baseProducer().randomInt(MAX_BALANCE_VALUE - 1)));
+        return account;
+    }
+
     private static Person generatePerson() {
         Fairy fairy = Fairy.create();
         return fairy.person();
@@ -78,8 +311,12 @@ public class Accounts {
         account.setCreationDate(LocalDate.now());
     }
 
+    private static void fillCommonRandomFields(Account account, Fairy fairy) {
+        account.setBalance(BigDecimal.valueOf(fairy.baseProducer().randomInt(MAX_BALANCE_VALUE - 1)));
+        account.setCreationDate(LocalDate.now());
+    }
+
     private static BigDecimal randomBigDecimal(int max) {
         return BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(max));
     }
 }
-
@@ -0,0 +1,147 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.CreditAccount;
+import com.bobocode.model.Sex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("AccountSnapshot Test")
+class AccountSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("accounts are read back as they were written")
+    void accountsRoundTrip() {
+        List<Account> accounts = new ArrayList<>(Accounts.generateAccountListInParallel(100, 42));
+        accounts.get(0).setId(1L);
+        Path file = directory.resolve("accounts.snapshot");
+
+        AccountSnapshot.writeAccounts(accounts, file);
+        try (AccountSnapshot<Account> snapshot = AccountSnapshot.openAccounts(file)) {
+            assertThat(snapshot.size()).isEqualTo(accounts.size());
+            assertThat(snapshot.asList()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(accounts);
+            assertThat(snapshot.stream().map(Account::getEmail).toList())
+                    .isEqualTo(accounts.stream().map(Account::getEmail).toList());
+            assertThat(snapshot.getBalanceInCents(5)).isEqualTo(AccountTable.toCents(accounts.get(5).getBalance()));
+        }
+    }
+
+    @Test
+    @DisplayName("credit accounts are read back with their credit balances")
+    void creditAccountsRoundTrip() {
+        List<CreditAccount> accounts = new ArrayList<>(Accounts.generateCreditAccountListInParallel(50, 42));
+        accounts.get(3).setCreditBalance(null);
+        Path file = directory.resolve("credit.snapshot");
+
+        AccountSnapshot.writeCreditAccounts(accounts, file);
+        try (AccountSnapshot<CreditAccount> snapshot = AccountSnapshot.openCreditAccounts(file)) {
+            assertThat(snapshot.asList()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(accounts);
+            assertThat(snapshot.get(3).getCreditBalance()).isEmpty();
+        }
+        try (AccountSnapshot<Account> snapshot = AccountSnapshot.openAccounts(file)) {
+            assertThat(snapshot.get(0)).isInstanceOf(CreditAccount.class);
+        }
+    }
+
+    @Test
+    @DisplayName("null fields are read back as nulls")
+    void nullFields() {
+        Path file = directory.resolve("nulls.snapshot");
+
+        AccountSnapshot.writeAccounts(List.of(new Account(null, null, null, null, null, null, null, null)), file);
+        try (AccountSnapshot<Account> snapshot = AccountSnapshot.openAccounts(file)) {
+            assertThat(snapshot.get(0)).hasAllNullFieldsOrProperties();
+        }
+    }
+
+    @Test
+    @DisplayName("the string offsets start at a file offset that is a multiple of 8")
+    void stringOffsetsAlignment() throws IOException {
+        Account account = new Account(null, null, null, null, null, null, null, null);
+        CreditAccount creditAccount = new CreditAccount();
+        Path plain = directory.resolve("plain.snapshot");
+        Path credit = directory.resolve("credit.snapshot");
+
+        AccountSnapshot.writeAccounts(List.of(account), plain);
+        AccountSnapshot.writeCreditAccounts(List.of(creditAccount), credit);
+
+        // header, one row of columns (37 or 45 bytes), padding and a single string offset
+        assertThat(Files.size(plain)).isEqualTo(32 + 40 + Long.BYTES);
+        assertThat(Files.size(credit)).isEqualTo(32 + 48 + Long.BYTES);
+        try (AccountSnapshot<CreditAccount> snapshot = AccountSnapshot.openCreditAccounts(credit)) {
+            assertThat(snapshot.get(0).getEmail()).isNull();
+            assertThat(snapshot.get(0).getCreditBalance()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("repeated strings are stored once in the string pool")
+    void stringPool() throws IOException {
+        Account account = new Account(1L, "Тарас", "Бойчук", "taras@bobocode.com", LocalDate.of(1990, 1, 1),
+                Sex.MALE, LocalDate.of(2020, 1, 1), BigDecimal.TEN);
+        List<Account> accounts = Collections.nCopies(1000, account);
+        Path file = directory.resolve("pool.snapshot");
+
+        AccountSnapshot.writeAccounts(accounts, file);
+
+        int stringBytes = ("Тарас" + "Бойчук" + "taras@bobocode.com").getBytes(UTF_8).length;
+        int columns = 1000 * (2 * Long.BYTES + 5 * Integer.BYTES + 1);
+        assertThat(Files.size(file)).isEqualTo(32 + columns + 4 * Long.BYTES + stringBytes);
+        try (AccountSnapshot<Account> snapshot = AccountSnapshot.openAccounts(file)) {
+            assertThat(snapshot.get(999)).usingRecursiveComparison().isEqualTo(account);
+        }
+    }
+
+    @Test
+    @DisplayName("files with a wrong magic number, version or type and truncated files are rejected")
+    void invalidFiles() throws IOException {
+        Path garbage = directory.resolve("garbage.snapshot");
+        Files.write(garbage, new byte[64]);
+        Path plain = directory.resolve("plain.snapshot");
+        AccountSnapshot.writeAccounts(Accounts.generateAccountListInParallel(3, 42), plain);
+        Path newerVersion = directory.resolve("version.snapshot");
+        Files.copy(plain, newerVersion);
+        try (FileChannel channel = FileChannel.open(newerVersion, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 2), Integer.BYTES);
+        }
+        Path unknownType = directory.resolve("type.snapshot");
+        Files.copy(plain, unknownType);
+        try (FileChannel channel = FileChannel.open(unknownType, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 7), 2 * Integer.BYTES);
+        }
+        Path truncated = directory.resolve("truncated.snapshot");
+        Files.copy(plain, truncated);
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(plain) - 1);
+        }
+
+        assertThatIllegalArgumentException().isThrownBy(() -> AccountSnapshot.openAccounts(garbage));
+        assertThatIllegalArgumentException().isThrownBy(() -> AccountSnapshot.openAccounts(newerVersion));
+        assertThatIllegalArgumentException().isThrownBy(() -> AccountSnapshot.openCreditAccounts(plain));
+        assertThatIllegalArgumentException().isThrownBy(() -> AccountSnapshot.openAccounts(unknownType));
+        assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> AccountSnapshot.openAccounts(truncated));
+    }
+}
@@ -0,0 +1,144 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.CreditAccount;
+import com.bobocode.model.Sex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("AccountTable Test")
+class AccountTableTest {
+
+    @Test
+    @DisplayName("a table converts back to the same accounts")
+    void roundTrip() {
+        List<Account> accounts = Accounts.generateAccountListInParallel(100, 42);
+        accounts.get(0).setId(7L);
+
+        AccountTable table = AccountTable.of(accounts);
+
+        assertThat(table.size()).isEqualTo(100);
+        assertThat(table.toList()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(accounts);
+        assertThat(properties(table.get(0))).isEqualTo(properties(accounts.get(0)));
+    }
+
+    @Test
+    @DisplayName("credit accounts keep their credit balances")
+    void creditAccounts() {
+        List<CreditAccount> accounts = Accounts.generateCreditAccountListInParallel(10, 42);
+        accounts.get(1).setCreditBalance(null);
+        List<Account> mixed = List.of(accounts.get(0), accounts.get(1), Accounts.generateAccount());
+
+        AccountTable table = AccountTable.of(mixed);
+        List<Account> restored = table.toList();
+
+        assertThat(restored.get(0)).isInstanceOf(CreditAccount.class);
+        assertThat(((CreditAccount) restored.get(0)).getCreditBalance()).isEqualTo(accounts.get(0).getCreditBalance());
+        assertThat(((CreditAccount) restored.get(1)).getCreditBalance()).isEmpty();
+        assertThat(restored.get(2)).isNotInstanceOf(CreditAccount.class);
+        assertThat(table.getCreditBalanceInCents(1)).isEqualTo(AccountTable.NULL_LONG);
+        assertThat(table.get(0)).isInstanceOf(CreditAccount.class);
+        assertThat(table.isCredit(2)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> table.setCreditBalance(2, BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("null fields are stored as sentinels and restored as nulls")
+    void nullFields() {
+        AccountTable table = new AccountTable(0);
+        table.add(new Account(null, null, null, null, null, null, null, null));
+
+        assertThat(table.hasId(0)).isFalse();
+        assertThat(table.getIdAsLong(0)).isEqualTo(AccountTable.NULL_LONG);
+        assertThat(table.getBalanceInCents(0)).isEqualTo(AccountTable.NULL_LONG);
+        assertThat(table.getBirthdayEpochDay(0)).isEqualTo(AccountTable.NULL_DATE);
+        assertThat(table.getCreationDateEpochDay(0)).isEqualTo(AccountTable.NULL_DATE);
+        assertThat(table.getSex(0)).isNull();
+        assertThat(table.toList().get(0)).hasAllNullFieldsOrProperties();
+    }
+
+    @Test
+    @DisplayName("balances are stored in cents and restored with the smallest scale")
+    void cents() {
+        assertThat(AccountTable.toCents(new BigDecimal("12.34"))).isEqualTo(1234);
+        assertThat(AccountTable.toCents(new BigDecimal("12.5"))).isEqualTo(1250);
+        assertThat(AccountTable.toCents(new BigDecimal("12"))).isEqualTo(1200);
+        assertThat(AccountTable.toCents(new BigDecimal("1.200"))).isEqualTo(120);
+        assertThat(AccountTable.toCents(null)).isEqualTo(AccountTable.NULL_LONG);
+        assertThat(AccountTable.fromCents(1234)).isEqualTo(new BigDecimal("12.34"));
+        assertThat(AccountTable.fromCents(1250)).isEqualTo(new BigDecimal("12.5"));
+        assertThat(AccountTable.fromCents(1200)).isEqualTo(new BigDecimal("12"));
+        assertThat(AccountTable.fromCents(-5)).isEqualTo(new BigDecimal("-0.05"));
+        assertThat(AccountTable.fromCents(AccountTable.NULL_LONG)).isNull();
+    }
+
+    @Test
+    @DisplayName("balances that would be rounded are rejected")
+    void roundingRejected() {
+        AccountTable table = new AccountTable();
+        table.add(new Account());
+
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> AccountTable.toCents(new BigDecimal("0.001")));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> table.setBalance(0, new BigDecimal("1.234")));
+        assertThat(table.getBalance(0)).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("writes through a flyweight view change the table")
+    void viewWrites() {
+        AccountTable table = AccountTable.of(Accounts.generateAccountListInParallel(3, 42));
+        Account view = table.get(1);
+
+        view.setId(5L);
+        view.setFirstName("Taras");
+        view.setEmail(null);
+        view.setBirthday(LocalDate.of(2000, 1, 2));
+        view.setSex(Sex.FEMALE);
+        view.setBalance(new BigDecimal("10.25"));
+
+        assertThat(table.getId(1)).isEqualTo(5L);
+        assertThat(table.getFirstName(1)).isEqualTo("Taras");
+        assertThat(table.getEmail(1)).isNull();
+        assertThat(table.getBirthdayEpochDay(1)).isEqualTo(LocalDate.of(2000, 1, 2).toEpochDay());
+        assertThat(table.getSex(1)).isEqualTo(Sex.FEMALE);
+        assertThat(table.getBalanceInCents(1)).isEqualTo(1025);
+        assertThat(properties(table.toList().get(1))).isEqualTo(properties(view));
+        assertThat(table.getId(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("emails are stored as UTF-8 bytes and can be changed")
+    void emails() {
+        AccountTable table = new AccountTable(0);
+        table.add(new Account(1L, "Тарас", "Бойчук", "тарас@bobocode.com", null, null, null, null));
+        table.add(new Account(2L, "Тарас", "Бойчук", null, null, null, null, null));
+
+        assertThat(table.getEmail(0)).isEqualTo("тарас@bobocode.com");
+        assertThat(table.getEmail(1)).isNull();
+        table.setEmail(1, "taras@bobocode.com");
+        table.setEmail(0, null);
+        assertThat(table.getEmail(0)).isNull();
+        assertThat(table.getEmail(1)).isEqualTo("taras@bobocode.com");
+        table.setEmail(0, "");
+        assertThat(table.getEmail(0)).isEmpty();
+    }
+
+    /**
+     * Reads an account using getters, because flyweight views do not store the values in fields.
+     */
+    private static List<Object> properties(Account account) {
+        return Arrays.asList(account.getId(), account.getFirstName(), account.getLastName(), account.getEmail(),
+                account.getBirthday(), account.getSex(), account.getCreationDate(), account.getBalance());
+    }
+}
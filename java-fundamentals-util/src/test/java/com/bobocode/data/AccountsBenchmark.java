@@ -0,0 +1,52 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares a sequential {@link Accounts#generateAccountList(int)} with its parallel
+ * alternatives. Run it with {@link #main(String[])} from your IDE.
+ * <p>
+ * The parallel generators split the work into chunks of {@link Accounts#CHUNK_SIZE} accounts, so the sizes are several
+ * times bigger than a chunk: a list smaller than a chunk would be generated by a single thread. Generating such a list
+ * takes seconds, so every invocation is measured separately.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AccountsBenchmark {
+
+    @Param({"16384", "131072"})
+    private int size;
+
+    @Benchmark
+    public List<Account> generateAccountList() {
+        return Accounts.generateAccountList(size);
+    }
+
+    @Benchmark
+    public List<Account> generateAccountListInParallel() {
+        return Accounts.generateAccountListInParallel(size);
+    }
+
+    @Benchmark
+    public List<Account> generateSeededAccountListInParallel() {
+        return Accounts.generateAccountListInParallel(size, 42);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccountsBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
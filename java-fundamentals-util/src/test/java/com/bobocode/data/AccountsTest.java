@@ -0,0 +1,121 @@
+package com.bobocode.data;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.CreditAccount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("Accounts Test")
+class AccountsTest {
+    /**
+     * Spans two chunks, so the parallel generator splits the work between tasks.
+     */
+    private static final int SIZE = Accounts.CHUNK_SIZE + 100;
+
+    @Test
+    @DisplayName("seeded parallel generation returns the same accounts for the same seed")
+    void sameSeedSameAccounts() {
+        List<Account> first = Accounts.generateAccountListInParallel(SIZE, 42);
+        List<Account> second = Accounts.generateAccountListInParallel(SIZE, 42);
+
+        assertThat(first).hasSize(SIZE).doesNotContainNull();
+        assertThat(second)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(first);
+    }
+
+    @Test
+    @DisplayName("seeded parallel generation returns different accounts for different seeds")
+    void differentSeedsDifferentAccounts() {
+        List<Account> first = Accounts.generateAccountListInParallel(SIZE, 42);
+        List<Account> second = Accounts.generateAccountListInParallel(SIZE, 43);
+
+        assertThat(second)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("seeded parallel generation returns the same accounts as a seeded stream")
+    void parallelListEqualsStream() {
+        List<Account> list = Accounts.generateAccountListInParallel(SIZE, 42);
+
+        assertThat(Accounts.accountStream(SIZE, 42).collect(toList()))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(list);
+        assertThat(Accounts.accountStream(SIZE, 42).parallel().collect(toList()))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(list);
+    }
+
+    @Test
+    @DisplayName("seeded parallel generation of credit accounts is reproducible")
+    void seededCreditAccounts() {
+        List<CreditAccount> first = Accounts.generateCreditAccountListInParallel(SIZE, 7);
+        List<CreditAccount> second = Accounts.generateCreditAccountListInParallel(SIZE, 7);
+
+        assertThat(first).allSatisfy(account -> assertThat(account.getCreditBalance()).isPresent());
+        assertThat(second)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(first);
+        assertThat(Accounts.creditAccountStream(SIZE, 7).collect(toList()))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(first);
+    }
+
+    @Test
+    @DisplayName("a seeded publisher publishes the same accounts as a seeded stream")
+    void seededPublisher() throws Exception {
+        List<Account> published = collect(Accounts.accountPublisher(100, 4, 42));
+
+        assertThat(published)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("creationDate")
+                .containsExactlyElementsOf(Accounts.accountStream(100, 42).collect(toList()));
+    }
+
+    @Test
+    @DisplayName("negative sizes are rejected")
+    void negativeSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Accounts.accountStream(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> Accounts.creditAccountStream(-1, 42));
+        assertThatIllegalArgumentException().isThrownBy(() -> Accounts.accountPublisher(-1, 4));
+        assertThatIllegalArgumentException().isThrownBy(() -> Accounts.generateAccountListInParallel(-1));
+    }
+
+    private static <T> List<T> collect(Flow.Publisher<T> publisher) throws Exception {
+        List<T> items = new ArrayList<>();
+        CompletableFuture<List<T>> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(items);
+            }
+        });
+        return done.get(30, TimeUnit.SECONDS);
+    }
+}